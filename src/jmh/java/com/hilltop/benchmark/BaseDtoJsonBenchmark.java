@@ -0,0 +1,58 @@
+package com.hilltop.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hilltop.domain.BaseDto;
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.response.RoomResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares BaseDto json conversion with the shared writers against a new ObjectMapper per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BaseDtoJsonBenchmark {
+
+    @Param({"request", "response"})
+    private String dto;
+
+    private BaseDto baseDto;
+
+    @Setup
+    public void setUp() {
+        var room = RoomFixtures.createRooms("hid-1", 1, 42).get(0);
+        if ("request".equals(dto)) {
+            var roomCreateRequestDto = new RoomCreateRequestDto();
+            roomCreateRequestDto.setRoomNumber(room.getRoomNumber());
+            roomCreateRequestDto.setHotelId(room.getHotelId());
+            roomCreateRequestDto.setPaxCount(room.getPaxCount());
+            roomCreateRequestDto.setRoomTypeId(room.getRoomType().getId());
+            roomCreateRequestDto.setImageUrls(room.getImageUrls());
+            roomCreateRequestDto.setPricePerNight(room.getCost());
+            baseDto = roomCreateRequestDto;
+        } else {
+            baseDto = new RoomResponseDto(room);
+        }
+    }
+
+    @Benchmark
+    public String newObjectMapperPerCall() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsString(baseDto);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return baseDto.toJson();
+    }
+
+    @Benchmark
+    public String toLogJson() {
+        return baseDto.toLogJson();
+    }
+}
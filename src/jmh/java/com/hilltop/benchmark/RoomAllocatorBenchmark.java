@@ -0,0 +1,41 @@
+package com.hilltop.benchmark;
+
+import com.hilltop.model.Room;
+import com.hilltop.search.RoomAllocator;
+import com.hilltop.search.RoomPaxIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the multi room allocator for a single hotel.
+ * Pax counts above the largest room force the allocator into multi room combinations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoomAllocatorBenchmark {
+
+    @Param({"50", "500", "2000"})
+    private int roomsPerHotel;
+
+    @Param({"7", "13", "23"})
+    private int paxCount;
+
+    private RoomAllocator roomAllocator;
+    private RoomPaxIndex roomPaxIndex;
+
+    @Setup
+    public void setUp() {
+        roomAllocator = new RoomAllocator(4);
+        roomPaxIndex = RoomPaxIndex.of(RoomFixtures.createRooms("hid-1", roomsPerHotel, 42));
+    }
+
+    @Benchmark
+    public List<Room> allocate() {
+        return roomAllocator.allocate(roomPaxIndex, paxCount);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hilltop.benchmark;
+
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.request.RoomTypeCreateRequestDto;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic room data for the benchmarks.
+ */
+final class RoomFixtures {
+
+    private static final int MAX_PAX_COUNT = 6;
+
+    private RoomFixtures() {
+    }
+
+    /**
+     * This method creates rooms with pax counts between 1 and 6 and prices between 50 and 500 per night.
+     *
+     * @param hotelId hotelId
+     * @param count   number of rooms
+     * @param seed    random seed
+     * @return Room List
+     */
+    static List<Room> createRooms(String hotelId, int count, long seed) {
+        var random = new Random(seed);
+        var roomType = new RoomType(new RoomTypeCreateRequestDto("DOUBLE", 10));
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            var roomCreateRequestDto = new RoomCreateRequestDto();
+            roomCreateRequestDto.setRoomNumber(i + 1);
+            roomCreateRequestDto.setHotelId(hotelId);
+            roomCreateRequestDto.setPaxCount(1 + random.nextInt(MAX_PAX_COUNT));
+            roomCreateRequestDto.setRoomTypeId(roomType.getId());
+            roomCreateRequestDto.setImageUrls(List.of("https://images.hilltop.com/" + hotelId + "/" + i + ".jpg"));
+            roomCreateRequestDto.setPricePerNight(BigDecimal.valueOf(50 + random.nextInt(450)));
+            rooms.add(new Room(roomCreateRequestDto, roomType));
+        }
+        return rooms;
+    }
+
+    /**
+     * This method creates the given number of hotels, each with the given number of rooms.
+     *
+     * @param hotels        number of hotels
+     * @param roomsPerHotel number of rooms per hotel
+     * @return hotel id vs room list map in hotel id order
+     */
+    static Map<String, List<Room>> createHotels(int hotels, int roomsPerHotel) {
+        Map<String, List<Room>> roomsByHotelId = new LinkedHashMap<>();
+        for (int i = 0; i < hotels; i++) {
+            String hotelId = "hid-" + i;
+            roomsByHotelId.put(hotelId, createRooms(hotelId, roomsPerHotel, i));
+        }
+        return roomsByHotelId;
+    }
+}
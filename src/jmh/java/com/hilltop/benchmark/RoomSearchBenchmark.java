@@ -0,0 +1,106 @@
+package com.hilltop.benchmark;
+
+import com.hilltop.cache.RoomInventoryCache;
+import com.hilltop.cache.RoomSearchResultCache;
+import com.hilltop.cache.RoomTypeRegistry;
+import com.hilltop.domain.response.RoomListResponseDto;
+import com.hilltop.metrics.RoomSearchMetrics;
+import com.hilltop.model.Room;
+import com.hilltop.search.HotelSearchExecutor;
+import com.hilltop.search.RoomAllocator;
+import com.hilltop.service.RoomAvailabilityService;
+import com.hilltop.service.RoomService;
+import com.hilltop.service.RoomTypeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionOperations;
+
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the room search path against an in memory repository, parameterised by hotels and rooms per hotel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoomSearchBenchmark {
+
+    private static final int DAYS = 3;
+
+    @Param({"10", "200", "500"})
+    private int hotels;
+
+    @Param({"20", "200"})
+    private int roomsPerHotel;
+
+    @Param({"5", "9"})
+    private int paxCount;
+
+    private List<String> hotelIds;
+    private List<Set<Room>> roomSets;
+    private RoomInventoryCache roomInventoryCache;
+    private HotelSearchExecutor hotelSearchExecutor;
+    private RoomService roomService;
+    private Map<String, List<Room>> searchResult;
+    private RoomListResponseDto roomListResponseDto;
+
+    @Setup
+    public void setUp() {
+        Map<String, List<Room>> roomsByHotelId = RoomFixtures.createHotels(hotels, roomsPerHotel);
+        hotelIds = new ArrayList<>(roomsByHotelId.keySet());
+        roomSets = new ArrayList<>();
+        roomsByHotelId.values().forEach(rooms -> roomSets.add(new HashSet<>(rooms)));
+        roomInventoryCache = new RoomInventoryCache(100_000, 3600);
+        hotelSearchExecutor = new HotelSearchExecutor(0, 64, 10_000);
+        roomService = new RoomService(StubRoomRepository.of(roomsByHotelId), new RoomTypeService(null, new RoomTypeRegistry()),
+                roomInventoryCache, new RoomSearchResultCache(0, 0), new RoomAllocator(4), hotelSearchExecutor, new RoomAvailabilityService(null, null, null), null,
+                null, TransactionOperations.withoutTransaction(), new RoomSearchMetrics(new SimpleMeterRegistry()), 500, 10000);
+        searchResult = roomService.getRoomsForPaxCountAndHotelIds(paxCount, hotelIds);
+        roomListResponseDto = new RoomListResponseDto(searchResult, DAYS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hotelSearchExecutor.destroy();
+    }
+
+    @Benchmark
+    public void findRoomsForExtraPaxCount(Blackhole blackhole) {
+        for (Set<Room> roomSet : roomSets) {
+            blackhole.consume(roomService.findRoomsForExtraPaxCount(roomSet, paxCount));
+        }
+    }
+
+    @Benchmark
+    public void findMultipleRoomsForPaxCount(Blackhole blackhole) {
+        for (Set<Room> roomSet : roomSets) {
+            blackhole.consume(roomService.findMultipleRoomsForPaxCount(roomSet, paxCount));
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<Room>> getRoomsForPaxCountAndHotelIdsWarmCache() {
+        return roomService.getRoomsForPaxCountAndHotelIds(paxCount, hotelIds);
+    }
+
+    @Benchmark
+    public Map<String, List<Room>> getRoomsForPaxCountAndHotelIdsColdCache() {
+        hotelIds.forEach(roomInventoryCache::invalidate);
+        return roomService.getRoomsForPaxCountAndHotelIds(paxCount, hotelIds);
+    }
+
+    @Benchmark
+    public RoomListResponseDto roomListResponseDto() {
+        return new RoomListResponseDto(searchResult, DAYS);
+    }
+
+    @Benchmark
+    public String roomListResponseDtoToJson() {
+        return roomListResponseDto.toJson();
+    }
+}
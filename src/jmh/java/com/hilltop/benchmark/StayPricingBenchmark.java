@@ -0,0 +1,103 @@
+package com.hilltop.benchmark;
+
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.response.RoomListResponseDto;
+import com.hilltop.domain.response.RoomResponseDto;
+import com.hilltop.model.Room;
+import com.hilltop.pricing.NightlyRates;
+import com.hilltop.pricing.RoomPricing;
+import com.hilltop.pricing.StayPricer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures pricing the stay of every room of a search result.
+ * The bigDecimal benchmarks replay the previous path, which multiplied the BigDecimal cost of every room response
+ * by the days and derived the cost from the double markup. The minorUnit benchmarks use the long minor unit
+ * pricing, with and without nightly rate overrides on every tenth room.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StayPricingBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 12, 20);
+    private static final double MARKUP_PERCENTAGE = 10;
+
+    @Param({"200", "5000"})
+    private int rooms;
+
+    @Param({"3", "14"})
+    private int days;
+
+    private Map<String, List<Room>> searchResult;
+    private List<Room> roomList;
+    private StayPricer stayPricer;
+    private StayPricer stayPricerWithOverrides;
+
+    @Setup
+    public void setUp() {
+        searchResult = RoomFixtures.createHotels(Math.max(1, rooms / 20), 20);
+        roomList = new ArrayList<>();
+        searchResult.values().forEach(roomList::addAll);
+        StayNights stayNights = StayNights.of(CHECK_IN, CHECK_IN.plusDays(days));
+        Map<String, NightlyRates> nightlyRatesByRoomId = new HashMap<>();
+        for (int i = 0; i < roomList.size(); i += 10) {
+            Room room = roomList.get(i);
+            nightlyRatesByRoomId.put(room.getId(), NightlyRates.of(Map.of(CHECK_IN.plusDays(1),
+                    room.getCostMinorUnits() * 2, CHECK_IN.plusDays(2), room.getCostMinorUnits() * 2)));
+        }
+        stayPricer = StayPricer.of(stayNights, Map.of());
+        stayPricerWithOverrides = StayPricer.of(stayNights, nightlyRatesByRoomId);
+    }
+
+    @Benchmark
+    public void bigDecimalStayTotal(Blackhole blackhole) {
+        BigDecimal dayCount = BigDecimal.valueOf(days);
+        for (Room room : roomList) {
+            BigDecimal pricePerNight = room.getPricePerNight();
+            BigDecimal cost = pricePerNight.add(pricePerNight.multiply(BigDecimal.valueOf(MARKUP_PERCENTAGE / 100)));
+            blackhole.consume(cost.multiply(dayCount));
+        }
+    }
+
+    @Benchmark
+    public void minorUnitStayTotal(Blackhole blackhole) {
+        long markupBasisPoints = RoomPricing.toBasisPoints(MARKUP_PERCENTAGE);
+        for (Room room : roomList) {
+            long cost = RoomPricing.applyMarkup(room.getPricePerNightMinorUnits(), markupBasisPoints);
+            blackhole.consume(RoomPricing.stayTotal(cost, days));
+        }
+    }
+
+    @Benchmark
+    public void minorUnitStayTotalWithOverrides(Blackhole blackhole) {
+        for (Room room : roomList) {
+            blackhole.consume(stayPricerWithOverrides.applyAsLong(room));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalSearchResponse(Blackhole blackhole) {
+        BigDecimal dayCount = BigDecimal.valueOf(days);
+        for (List<Room> hotelRooms : searchResult.values()) {
+            for (Room room : hotelRooms) {
+                RoomResponseDto roomResponseDto = new RoomResponseDto(room);
+                roomResponseDto.setCost(roomResponseDto.getCost().multiply(dayCount));
+                blackhole.consume(roomResponseDto);
+            }
+        }
+    }
+
+    @Benchmark
+    public RoomListResponseDto minorUnitSearchResponse() {
+        return new RoomListResponseDto(searchResult, stayPricer);
+    }
+}
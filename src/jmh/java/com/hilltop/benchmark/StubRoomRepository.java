@@ -0,0 +1,43 @@
+package com.hilltop.benchmark;
+
+import com.hilltop.model.Room;
+import com.hilltop.repository.RoomRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In memory RoomRepository for the benchmarks. Only the search queries are supported.
+ */
+final class StubRoomRepository {
+
+    private StubRoomRepository() {
+    }
+
+    /**
+     * This method creates a repository serving the given rooms.
+     *
+     * @param roomsByHotelId hotel id vs room list map
+     * @return roomRepository
+     */
+    @SuppressWarnings("unchecked")
+    static RoomRepository of(Map<String, List<Room>> roomsByHotelId) {
+        return (RoomRepository) Proxy.newProxyInstance(RoomRepository.class.getClassLoader(),
+                new Class<?>[]{RoomRepository.class}, (proxy, method, args) -> {
+                    if ("findRoomsWithDetailsByHotelIdIn".equals(method.getName())) {
+                        List<Room> rooms = new ArrayList<>();
+                        for (String hotelId : (Collection<String>) args[0]) {
+                            rooms.addAll(roomsByHotelId.getOrDefault(hotelId, List.of()));
+                        }
+                        return rooms;
+                    }
+                    if ("toString".equals(method.getName())) {
+                        return StubRoomRepository.class.getSimpleName();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
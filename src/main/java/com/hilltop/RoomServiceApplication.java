@@ -3,9 +3,11 @@ package com.hilltop;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableEurekaClient
+@EnableScheduling
 public class RoomServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(RoomServiceApplication.class);
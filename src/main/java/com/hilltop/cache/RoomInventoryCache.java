@@ -0,0 +1,135 @@
+package com.hilltop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hilltop.model.Room;
+import com.hilltop.search.RoomPaxIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Per hotel room inventory cache.
+ * Holds an immutable pax count index of the rooms of a hotel, evicted by size and time to live and invalidated
+ * on writes.
+ */
+@Component
+@Slf4j
+public class RoomInventoryCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "roomInventory";
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final Cache<String, RoomPaxIndex> roomsByHotelId;
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public RoomInventoryCache(@Value("${room.inventory-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${room.inventory-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.roomsByHotelId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * This method returns the room index of a hotel, loading it on a cache miss.
+     *
+     * @param hotelId hotelId
+     * @param loader  loader for the rooms of the hotel
+     * @return roomPaxIndex
+     */
+    public RoomPaxIndex get(String hotelId, Function<String, List<Room>> loader) {
+        return roomsByHotelId.get(hotelId, id -> RoomPaxIndex.of(loader.apply(id)));
+    }
+
+    /**
+     * This method returns the room indexes of the hotels, loading all missing hotels with a single loader call.
+     * Hotels without rooms are cached as empty indexes. The bulk load is not atomic with the cache, so a loaded
+     * index is dropped again when its hotel was invalidated while the rooms were read.
+     *
+     * @param hotelIds distinct hotelIds
+     * @param loader   loader for the rooms of the missing hotels
+     * @return hotel id vs room index map
+     */
+    public Map<String, RoomPaxIndex> getAll(Collection<String> hotelIds,
+                                            Function<List<String>, Map<String, List<Room>>> loader) {
+        Map<String, RoomPaxIndex> indexes = new HashMap<>(roomsByHotelId.getAllPresent(hotelIds));
+        List<String> missingHotelIds = new ArrayList<>();
+        for (String hotelId : hotelIds) {
+            if (!indexes.containsKey(hotelId)) {
+                missingHotelIds.add(hotelId);
+            }
+        }
+        if (missingHotelIds.isEmpty()) {
+            return indexes;
+        }
+        long[] stampsBeforeLoad = new long[missingHotelIds.size()];
+        for (int i = 0; i < missingHotelIds.size(); i++) {
+            stampsBeforeLoad[i] = invalidationStamps.get(stripeOf(missingHotelIds.get(i)));
+        }
+        Map<String, List<Room>> loadedRooms = loader.apply(missingHotelIds);
+        for (int i = 0; i < missingHotelIds.size(); i++) {
+            String hotelId = missingHotelIds.get(i);
+            RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(loadedRooms.getOrDefault(hotelId, Collections.emptyList()));
+            indexes.put(hotelId, roomPaxIndex);
+            roomsByHotelId.put(hotelId, roomPaxIndex);
+            if (invalidationStamps.get(stripeOf(hotelId)) != stampsBeforeLoad[i]) {
+                roomsByHotelId.asMap().remove(hotelId, roomPaxIndex);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * This method removes the room index of a hotel.
+     *
+     * @param hotelId hotelId
+     */
+    public void invalidate(String hotelId) {
+        if (hotelId != null) {
+            invalidationStamps.incrementAndGet(stripeOf(hotelId));
+            roomsByHotelId.invalidate(hotelId);
+            log.debug("Invalidated room inventory cache for hotel id: {}", hotelId);
+        }
+    }
+
+    /**
+     * This method binds the size, hit, miss and eviction meters of the cache.
+     *
+     * @param meterRegistry meterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, roomsByHotelId, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the stripe of the invalidation stamp of a hotel. Hotels sharing a stripe only cost an
+     * extra reload.
+     *
+     * @param hotelId hotelId
+     * @return stripe index
+     */
+    private static int stripeOf(String hotelId) {
+        return (hotelId.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPES;
+    }
+
+    /**
+     * This method returns hit, miss and eviction statistics of the cache.
+     *
+     * @return cacheStats
+     */
+    public CacheStats getStats() {
+        return roomsByHotelId.stats();
+    }
+}
@@ -0,0 +1,202 @@
+package com.hilltop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hilltop.domain.StayNights;
+import com.hilltop.model.Room;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Short lived cache of room search results with single flight searches.
+ * Searches are keyed by the pax count, the sorted distinct hotel ids and the stay dates. Concurrent identical
+ * searches wait for the one in flight instead of running it again, and the result is served to identical searches
+ * until it expires. Results of a hotel are invalidated on room writes and on occupancy changes of its rooms.
+ */
+@Component
+@Slf4j
+public class RoomSearchResultCache implements MeterBinder {
+
+    private static final String OUTCOME = "outcome";
+
+    private final Cache<SearchKey, Map<String, List<Room>>> resultsByKey;
+    private final ConcurrentMap<SearchKey, CompletableFuture<Map<String, List<Room>>>> inFlightSearches =
+            new ConcurrentHashMap<>();
+    private final boolean cachingResults;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder searchedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder cachedCount = new LongAdder();
+
+    public RoomSearchResultCache(@Value("${room.search.result-cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${room.search.result-cache.expire-after-write-millis:500}")
+                                 long expireAfterWriteMillis) {
+        this.cachingResults = maximumSize > 0 && expireAfterWriteMillis > 0;
+        this.resultsByKey = Caffeine.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterWrite(Duration.ofMillis(Math.max(expireAfterWriteMillis, 0)))
+                .build();
+    }
+
+    /**
+     * This method returns the result of a search from the cache, from the identical search in flight or by running
+     * the search. The result is shared by the identical searches and must not be modified.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   distinct hotelIds
+     * @param stayNights stayNights or null to search without dates
+     * @param search     search of the hotels
+     * @return hotel id vs room list map in the order of the hotel ids of the search which ran
+     */
+    public Map<String, List<Room>> get(int paxCount, List<String> hotelIds, StayNights stayNights,
+                                       Supplier<Map<String, List<Room>>> search) {
+        var searchKey = new SearchKey(paxCount, hotelIds, stayNights);
+        var result = resultsByKey.getIfPresent(searchKey);
+        if (result != null) {
+            cachedCount.increment();
+            return result;
+        }
+        var future = new CompletableFuture<Map<String, List<Room>>>();
+        var inFlightSearch = inFlightSearches.putIfAbsent(searchKey, future);
+        if (inFlightSearch != null) {
+            coalescedCount.increment();
+            return join(inFlightSearch);
+        }
+        searchedCount.increment();
+        try {
+            long invalidationsBeforeSearch = invalidations.get();
+            result = Collections.unmodifiableMap(search.get());
+            if (cachingResults && invalidations.get() == invalidationsBeforeSearch) {
+                resultsByKey.put(searchKey, result);
+            }
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSearches.remove(searchKey, future);
+        }
+    }
+
+    /**
+     * This method removes the cached results of the searches including a hotel. Results of searches in flight are
+     * not cached.
+     *
+     * @param hotelId hotelId
+     */
+    public void invalidate(String hotelId) {
+        if (hotelId != null) {
+            invalidations.incrementAndGet();
+            resultsByKey.asMap().keySet().removeIf(searchKey -> searchKey.containsHotel(hotelId));
+            log.debug("Invalidated room search results for hotel id: {}", hotelId);
+        }
+    }
+
+    /**
+     * This method binds the searches by outcome, the searches in flight and the size of the cache.
+     *
+     * @param meterRegistry meterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("room.search.coalescing", searchedCount, LongAdder::sum)
+                .tag(OUTCOME, "searched")
+                .description("Searches which ran because no identical search was cached or in flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("room.search.coalescing", coalescedCount, LongAdder::sum)
+                .tag(OUTCOME, "coalesced")
+                .description("Searches which waited for the identical search in flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("room.search.coalescing", cachedCount, LongAdder::sum)
+                .tag(OUTCOME, "cached")
+                .description("Searches which were served the cached result of an identical search")
+                .register(meterRegistry);
+        Gauge.builder("room.search.in.flight", inFlightSearches, Map::size)
+                .description("Distinct searches in flight")
+                .register(meterRegistry);
+        Gauge.builder("room.search.result.cache.size", resultsByKey, Cache::estimatedSize)
+                .description("Cached room search results")
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method waits for a search in flight and rethrows its failure, errors included.
+     *
+     * @param inFlightSearch inFlightSearch
+     * @return result of the search
+     */
+    private Map<String, List<Room>> join(CompletableFuture<Map<String, List<Room>>> inFlightSearch) {
+        try {
+            return inFlightSearch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Normalised key of a search, identical for the same hotels in any order.
+     */
+    private static final class SearchKey {
+
+        private final int paxCount;
+        private final String[] hotelIds;
+        private final LocalDate checkIn;
+        private final LocalDate checkOut;
+        private final int hashCode;
+
+        private SearchKey(int paxCount, List<String> hotelIds, StayNights stayNights) {
+            this.paxCount = paxCount;
+            this.hotelIds = hotelIds.toArray(new String[0]);
+            Arrays.sort(this.hotelIds);
+            this.checkIn = stayNights == null ? null : stayNights.getCheckIn();
+            this.checkOut = stayNights == null ? null : stayNights.getCheckOut();
+            this.hashCode = Objects.hash(paxCount, Arrays.hashCode(this.hotelIds), checkIn, checkOut);
+        }
+
+        private boolean containsHotel(String hotelId) {
+            return Arrays.binarySearch(hotelIds, hotelId) >= 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SearchKey)) {
+                return false;
+            }
+            SearchKey searchKey = (SearchKey) o;
+            return paxCount == searchKey.paxCount && hashCode == searchKey.hashCode
+                    && Arrays.equals(hotelIds, searchKey.hotelIds) && Objects.equals(checkIn, searchKey.checkIn)
+                    && Objects.equals(checkOut, searchKey.checkOut);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
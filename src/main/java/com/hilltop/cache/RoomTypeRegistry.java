@@ -0,0 +1,110 @@
+package com.hilltop.cache;
+
+import com.hilltop.model.RoomType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In memory registry of all room types.
+ * Room types are a small and almost static table, so the whole table is held as an immutable snapshot which is
+ * replaced on writes and reconciles. Reads never lock.
+ */
+@Component
+public class RoomTypeRegistry implements MeterBinder {
+
+    private static final String CACHE_NAME = "roomTypeRegistry";
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile Map<String, RoomType> roomTypesById = Map.of();
+
+    /**
+     * This method returns the room type by id from the registry.
+     *
+     * @param id id
+     * @return RoomType optional
+     */
+    public Optional<RoomType> get(String id) {
+        var roomType = id == null ? null : roomTypesById.get(id);
+        if (roomType == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(roomType);
+    }
+
+    /**
+     * This method adds or replaces a room type in the registry.
+     *
+     * @param roomType roomType
+     */
+    public synchronized void put(RoomType roomType) {
+        Map<String, RoomType> snapshot = new HashMap<>(roomTypesById);
+        snapshot.put(roomType.getId(), roomType);
+        roomTypesById = Map.copyOf(snapshot);
+    }
+
+    /**
+     * This method replaces the registry with the given room types.
+     *
+     * @param roomTypes all room types
+     */
+    public synchronized void replaceAll(Collection<RoomType> roomTypes) {
+        Map<String, RoomType> snapshot = new HashMap<>();
+        roomTypes.forEach(roomType -> snapshot.put(roomType.getId(), roomType));
+        roomTypesById = Map.copyOf(snapshot);
+    }
+
+    /**
+     * This method returns the number of room types in the registry.
+     *
+     * @return size
+     */
+    public int size() {
+        return roomTypesById.size();
+    }
+
+    /**
+     * This method returns the number of lookups served by the registry.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * This method returns the number of lookups not found in the registry.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * This method binds the size, hit and miss meters of the registry with the names of the cache meters.
+     *
+     * @param meterRegistry meterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.size", this, RoomTypeRegistry::size).tag("cache", CACHE_NAME)
+                .description("The number of room types in the registry").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", this, RoomTypeRegistry::getHitCount).tags("cache", CACHE_NAME,
+                "result", "hit").description("The number of lookups served by the registry").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", this, RoomTypeRegistry::getMissCount).tags("cache", CACHE_NAME,
+                "result", "miss").description("The number of lookups not found in the registry")
+                .register(meterRegistry);
+    }
+}
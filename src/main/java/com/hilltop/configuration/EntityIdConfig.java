@@ -0,0 +1,23 @@
+package com.hilltop.configuration;
+
+import com.hilltop.enums.IdStrategy;
+import com.hilltop.model.EntityIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * Applies the configured id strategy to the entity ids.
+ */
+@Configuration
+@Slf4j
+public class EntityIdConfig {
+
+    public EntityIdConfig(@Value("${room.id.strategy:random}") String strategy) {
+        var idStrategy = IdStrategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        EntityIds.setStrategy(idStrategy);
+        log.info("Using {} entity ids.", idStrategy);
+    }
+}
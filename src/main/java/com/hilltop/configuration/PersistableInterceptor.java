@@ -0,0 +1,22 @@
+package com.hilltop.configuration;
+
+import org.hibernate.EmptyInterceptor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Hibernate interceptor which answers the transient check of entities with application assigned ids from
+ * Persistable. Without it hibernate selects the row of a detached reference, eg: the room type of a new room,
+ * to find out whether it is already saved.
+ */
+public class PersistableInterceptor extends EmptyInterceptor {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Boolean isTransient(Object entity) {
+        if (entity instanceof Persistable) {
+            return ((Persistable<?>) entity).isNew();
+        }
+        return null;
+    }
+}
@@ -1,23 +1,53 @@
 package com.hilltop.configuration;
 
+import com.hilltop.enums.ErrorResponseStatusType;
+import com.hilltop.enums.ResponseStatusType;
+import com.hilltop.enums.SuccessResponseStatusType;
+import com.hilltop.wrapper.ErrorResponseWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 @Component
 public class Translator {
 
     private final ResourceBundleMessageSource messageSource;
     private final MessageSourceAccessor messageSourceAccessor;
+    private final Map<Locale, ResponseMessages> responseMessagesByLocale;
+    private final Map<String, ResponseMessages> responseMessagesByLanguage;
+    private final ResponseMessages defaultResponseMessages;
 
+    /**
+     * The display messages of the response status types are resolved once for each supported locale, so the
+     * response path reads them from immutable tables instead of the resource bundles.
+     *
+     * @param messageSource    messageSource
+     * @param supportedLocales language tags of the locales to resolve the response messages for
+     */
     @Autowired
-    public Translator(ResourceBundleMessageSource messageSource) {
+    public Translator(ResourceBundleMessageSource messageSource,
+                      @Value("${room.messages.supported-locales:en}") String[] supportedLocales) {
         this.messageSource = messageSource;
         this.messageSourceAccessor = new MessageSourceAccessor(messageSource, Locale.ENGLISH);
+        Map<Locale, ResponseMessages> byLocale = new HashMap<>();
+        Map<String, ResponseMessages> byLanguage = new HashMap<>();
+        for (String languageTag : supportedLocales) {
+            var locale = Locale.forLanguageTag(languageTag.trim());
+            var responseMessages = new ResponseMessages(messageSource, locale);
+            byLocale.put(locale, responseMessages);
+            byLanguage.putIfAbsent(locale.getLanguage(), responseMessages);
+        }
+        this.defaultResponseMessages = new ResponseMessages(messageSource, Locale.ENGLISH);
+        this.responseMessagesByLocale = Map.copyOf(byLocale);
+        this.responseMessagesByLanguage = Map.copyOf(byLanguage);
     }
 
     /**
@@ -31,6 +61,26 @@ public class Translator {
         return messageSource.getMessage(msgCode, null, locale);
     }
 
+    /**
+     * Return the display message of a success status based on the language
+     *
+     * @param successResponseStatusType successResponseStatusType
+     * @return message
+     */
+    public String toLocale(SuccessResponseStatusType successResponseStatusType) {
+        return getResponseMessages().successMessages.get(successResponseStatusType);
+    }
+
+    /**
+     * Return the immutable error response of an error status based on the language
+     *
+     * @param errorResponseStatusType errorResponseStatusType
+     * @return error response wrapper
+     */
+    public ErrorResponseWrapper toErrorResponse(ErrorResponseStatusType errorResponseStatusType) {
+        return getResponseMessages().errorResponses.get(errorResponseStatusType);
+    }
+
     /**
      * Return default locale messages
      *
@@ -49,4 +99,35 @@ public class Translator {
     public String getLanguageTag() {
         return LocaleContextHolder.getLocale().toLanguageTag();
     }
+
+    private ResponseMessages getResponseMessages() {
+        var locale = LocaleContextHolder.getLocale();
+        var responseMessages = responseMessagesByLocale.get(locale);
+        if (responseMessages == null) {
+            responseMessages = responseMessagesByLanguage.getOrDefault(locale.getLanguage(), defaultResponseMessages);
+        }
+        return responseMessages;
+    }
+
+    /**
+     * Display messages of the success statuses and error responses of the error statuses in a locale.
+     */
+    private static final class ResponseMessages {
+
+        private final Map<SuccessResponseStatusType, String> successMessages =
+                new EnumMap<>(SuccessResponseStatusType.class);
+        private final Map<ErrorResponseStatusType, ErrorResponseWrapper> errorResponses =
+                new EnumMap<>(ErrorResponseStatusType.class);
+
+        private ResponseMessages(ResourceBundleMessageSource messageSource, Locale locale) {
+            for (SuccessResponseStatusType type : SuccessResponseStatusType.values()) {
+                successMessages.put(type, messageSource.getMessage(type.getCodeString(type.getCode()), null, locale));
+            }
+            for (ErrorResponseStatusType type : ErrorResponseStatusType.values()) {
+                errorResponses.put(type, new ErrorResponseWrapper(ResponseStatusType.ERROR, type.getMessage(), null,
+                        messageSource.getMessage(ErrorResponseStatusType.getCodeString(type.getCode()), null, locale),
+                        type.getCode()));
+            }
+        }
+    }
 }
@@ -5,7 +5,6 @@ import com.hilltop.domain.response.ResponseDto;
 import com.hilltop.enums.ErrorResponseStatusType;
 import com.hilltop.enums.ResponseStatusType;
 import com.hilltop.enums.SuccessResponseStatusType;
-import com.hilltop.wrapper.ErrorResponseWrapper;
 import com.hilltop.wrapper.ResponseWrapper;
 import com.hilltop.wrapper.SuccessResponseWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 
 public class Controller {
     protected static final String DEFAULT_SORT = "updatedAt";
+    protected static final String ID_SORT = "id";
     protected static final int DEFAULT_PAGE = 0;
     protected static final int PAGE_MAX_SIZE = 250;
     protected final Translator translator;
@@ -33,8 +33,7 @@ public class Controller {
                                                                  SuccessResponseStatusType successResponseStatusType, HttpStatus httpStatus) {
 
         var successResponseWrapper = new SuccessResponseWrapper(ResponseStatusType.SUCCESS,
-                successResponseStatusType, responseDto,
-                translator.toLocale(successResponseStatusType.getCodeString(successResponseStatusType.getCode())), httpStatus);
+                successResponseStatusType, responseDto, translator.toLocale(successResponseStatusType), httpStatus);
         return new ResponseEntity<>(successResponseWrapper, httpStatus);
     }
 
@@ -44,12 +43,8 @@ public class Controller {
      * @return response entity
      */
     protected ResponseEntity<ResponseWrapper> getInternalServerError() {
-        var errorResponseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR,
-                ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getMessage(), null,
-                translator.toLocale(ErrorResponseStatusType.
-                        getCodeString(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode())),
-                ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode());
-        return new ResponseEntity<>(errorResponseWrapper, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(translator.toErrorResponse(ErrorResponseStatusType.INTERNAL_SERVER_ERROR),
+                HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     /**
@@ -59,10 +54,6 @@ public class Controller {
      * @return bad request error response
      */
     protected ResponseEntity<ResponseWrapper> getErrorResponse(ErrorResponseStatusType errorsResponseStatusType) {
-        var errorResponseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR,
-                errorsResponseStatusType.getMessage(), null,
-                translator.toLocale(ErrorResponseStatusType.getCodeString(errorsResponseStatusType.getCode())),
-                errorsResponseStatusType.getCode());
-        return new ResponseEntity<>(errorResponseWrapper, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(translator.toErrorResponse(errorsResponseStatusType), HttpStatus.BAD_REQUEST);
     }
 }
@@ -0,0 +1,145 @@
+package com.hilltop.contoller;
+
+import com.hilltop.configuration.Translator;
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.response.RoomListResponseDto;
+import com.hilltop.domain.response.RoomSearchResponseDto;
+import com.hilltop.enums.ErrorResponseStatusType;
+import com.hilltop.enums.SuccessResponseStatusType;
+import com.hilltop.exception.InvalidStayException;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.service.ReactiveRoomSearchService;
+import com.hilltop.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Non blocking variant of the room search of RoomController.
+ * Handlers return as soon as the search is subscribed, so the request thread is released while the hotels are
+ * searched on the scheduler of ReactiveRoomSearchService, and the response is written when the search completes.
+ */
+@RestController
+@RequestMapping("/api/v1/room/reactive")
+@Slf4j
+public class ReactiveRoomController extends Controller {
+
+    private final ReactiveRoomSearchService reactiveRoomSearchService;
+
+    public ReactiveRoomController(Translator translator, ReactiveRoomSearchService reactiveRoomSearchService) {
+        super(translator);
+        this.reactiveRoomSearchService = reactiveRoomSearchService;
+    }
+
+    /**
+     * This endpoint used to get hotel room for the search without blocking a request thread.
+     * The response is the same as the response of the blocking search.
+     *
+     * @param count    count
+     * @param days     days
+     * @param hotelIds hotelIds
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return searchRoomListResponseDto
+     */
+    @GetMapping("/list-hotel-room-by")
+    public Mono<ResponseEntity<ResponseWrapper>> getHotelRooms(@RequestParam int count,
+                                                               @RequestParam(required = false) Integer days,
+                                                               @RequestParam List<String> hotelIds,
+                                                               @RequestParam(required = false)
+                                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                               LocalDate checkIn,
+                                                               @RequestParam(required = false)
+                                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                               LocalDate checkOut) {
+        StayNights stayNights;
+        try {
+            stayNights = getStayNights(checkIn, checkOut);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to search rooms.");
+            return Mono.just(getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES));
+        }
+        if (days == null && stayNights == null) {
+            log.error("Missing day count or stay dates to search rooms.");
+            return Mono.just(getErrorResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS));
+        }
+        return reactiveRoomSearchService.searchRooms(count, hotelIds, days, stayNights)
+                .collectList()
+                .map(roomSearchResponseDtoList -> {
+                    log.info("Successfully returned the hotel rooms for pax count :{} and day count: {} ", count,
+                            stayNights == null ? days : stayNights.getNightCount());
+                    return getSuccessResponse(new RoomListResponseDto(roomSearchResponseDtoList),
+                            SuccessResponseStatusType.SEARCH_ROOMS, HttpStatus.OK);
+                })
+                .onErrorResume(RoomServiceException.class, e -> {
+                    log.error("Getting rooms by id and hotel ids was failed.", e);
+                    return Mono.just(getInternalServerError());
+                });
+    }
+
+    /**
+     * This endpoint used to stream hotel rooms for the search as newline delimited json without blocking a request
+     * thread. Each line is the search result of one hotel, and the next chunk of hotels is only searched once the
+     * client has taken the results written so far.
+     *
+     * @param count    count
+     * @param days     days
+     * @param hotelIds hotelIds
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return stream of roomSearchResponseDto
+     */
+    @GetMapping(value = "/list-hotel-room-by/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<RoomSearchResponseDto>> streamHotelRooms(@RequestParam int count,
+                                                                        @RequestParam(required = false) Integer days,
+                                                                        @RequestParam List<String> hotelIds,
+                                                                        @RequestParam(required = false)
+                                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                        LocalDate checkIn,
+                                                                        @RequestParam(required = false)
+                                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                        LocalDate checkOut) {
+        StayNights stayNights;
+        try {
+            stayNights = getStayNights(checkIn, checkOut);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to stream rooms.");
+            return ResponseEntity.badRequest().build();
+        }
+        if (days == null && stayNights == null) {
+            log.error("Missing day count or stay dates to stream rooms.");
+            return ResponseEntity.badRequest().build();
+        }
+        Flux<RoomSearchResponseDto> roomSearchResponseDtoFlux = reactiveRoomSearchService
+                .searchRooms(count, hotelIds, days, stayNights)
+                .doOnComplete(() -> log.info("Successfully streamed the hotel rooms for pax count :{} and day count: "
+                        + "{} ", count, stayNights == null ? days : stayNights.getNightCount()))
+                .doOnError(e -> log.error("Streaming rooms by pax count and hotel ids was failed.", e));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(roomSearchResponseDtoFlux);
+    }
+
+    /**
+     * This method creates the stay nights of the search.
+     *
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return stayNights or null when no dates are given
+     */
+    private StayNights getStayNights(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null && checkOut == null) {
+            return null;
+        }
+        return StayNights.of(checkIn, checkOut);
+    }
+}
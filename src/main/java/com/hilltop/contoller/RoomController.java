@@ -1,31 +1,60 @@
 package com.hilltop.contoller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.hilltop.configuration.Translator;
+import com.hilltop.domain.RoomPageCursor;
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.request.BulkRoomRequestDto;
 import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.request.RoomOccupancyRequestDto;
+import com.hilltop.domain.request.RoomRateOverrideRequestDto;
+import com.hilltop.domain.response.HotelSummaryListResponseDto;
+import com.hilltop.domain.response.HotelSummaryResponseDto;
 import com.hilltop.domain.response.RoomListPageResponseDto;
 import com.hilltop.domain.response.RoomListResponseDto;
 import com.hilltop.domain.response.RoomResponseDto;
+import com.hilltop.domain.response.RoomSearchResponseDto;
 import com.hilltop.enums.ErrorResponseStatusType;
 import com.hilltop.enums.SuccessResponseStatusType;
+import com.hilltop.exception.InvalidBulkRoomRequestException;
+import com.hilltop.exception.InvalidPageCursorException;
 import com.hilltop.exception.InvalidRoomException;
 import com.hilltop.exception.InvalidRoomTypeException;
+import com.hilltop.exception.InvalidStayException;
+import com.hilltop.exception.RoomNotAvailableException;
 import com.hilltop.exception.RoomServiceException;
 import com.hilltop.model.Room;
+import com.hilltop.model.RoomView;
+import com.hilltop.pricing.StayPricer;
+import com.hilltop.service.RoomAvailabilityService;
+import com.hilltop.service.RoomRateService;
 import com.hilltop.service.RoomService;
 import com.hilltop.wrapper.ResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Positive;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * RoomController
@@ -35,11 +64,20 @@ import java.util.List;
 @Slf4j
 public class RoomController extends Controller {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
     private final RoomService roomService;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final RoomRateService roomRateService;
+    private final ObjectReader bulkRoomRequestReader;
 
-    public RoomController(Translator translator, RoomService roomService) {
+    public RoomController(Translator translator, RoomService roomService,
+                          RoomAvailabilityService roomAvailabilityService, RoomRateService roomRateService,
+                          ObjectMapper objectMapper) {
         super(translator);
         this.roomService = roomService;
+        this.roomAvailabilityService = roomAvailabilityService;
+        this.roomRateService = roomRateService;
+        this.bulkRoomRequestReader = objectMapper.readerFor(BulkRoomRequestDto.class);
     }
 
     /**
@@ -63,15 +101,50 @@ public class RoomController extends Controller {
         }
     }
 
+    /**
+     * This endpoint used to create and update rooms in bulk from a json array.
+     *
+     * @param bulkRoomRequestDtoList rows, rows with an id update the existing room
+     * @return bulkRoomResponseDto
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> saveRooms(@RequestBody List<BulkRoomRequestDto> bulkRoomRequestDtoList) {
+        return saveBulkRooms(bulkRoomRequestDtoList);
+    }
+
+    /**
+     * This endpoint used to create and update rooms in bulk from a newline delimited json upload.
+     * Rows which can not be parsed are reported as failed rows.
+     *
+     * @param inputStream request body with one row per line
+     * @return bulkRoomResponseDto
+     */
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseWrapper> saveRoomsFromNdjson(InputStream inputStream) {
+        try {
+            return saveBulkRooms(readBulkRoomRows(inputStream, roomService.getBulkMaxRows()));
+        } catch (IOException e) {
+            log.error("Reading bulk room upload was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
     /**
      * This endpoint used to get room by id.
+     * The updatedAt of the room is the ETag and Last-Modified, so a request with a matching If-None-Match or
+     * If-Modified-Since is answered with 304 without loading the room.
      *
-     * @param id hotelId
+     * @param id         hotelId
+     * @param webRequest webRequest
      * @return roomResponseDto
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseWrapper> getRoom(@PathVariable String id) {
+    public ResponseEntity<ResponseWrapper> getRoom(@PathVariable String id, WebRequest webRequest) {
         try {
+            long updatedAt = roomService.getRoomUpdatedAt(id);
+            if (webRequest.checkNotModified(String.valueOf(updatedAt), updatedAt)) {
+                return null;
+            }
             var room = roomService.getRoom(id);
             var roomResponseDto = new RoomResponseDto(room);
             return getSuccessResponse(roomResponseDto, SuccessResponseStatusType.GET_ROOM, HttpStatus.OK);
@@ -86,21 +159,48 @@ public class RoomController extends Controller {
 
     /**
      * This endpoint used to get room list for a hotel.
+     * When a page is given without a cursor the offset page with the total count is returned. Otherwise the rooms
+     * are paged by the (updatedAt, id) keyset starting after the cursor, and the total count is only queried when
+     * requested.
+     * The room version of the hotel is the ETag and its update time the Last-Modified, so a request with a matching
+     * If-None-Match or If-Modified-Since is answered with 304 without reading the rooms.
      *
-     * @param hotelId hoteId
-     * @param page    page
-     * @param size    size
+     * @param hotelId    hoteId
+     * @param page       page
+     * @param size       size
+     * @param cursor     nextCursor of the previous keyset page
+     * @param withTotal  whether to count the rooms of the hotel for a keyset page
+     * @param webRequest webRequest
      * @return roomListPageResponseDto
      */
     @GetMapping("/hotel/{hotelId}")
     public ResponseEntity<ResponseWrapper> getRoomListForHotel(@PathVariable String hotelId,
-                                                               @Min(DEFAULT_PAGE) @RequestParam int page,
-                                                               @Positive @Max(PAGE_MAX_SIZE) @RequestParam int size) {
+                                                               @Min(DEFAULT_PAGE) @RequestParam(required = false) Integer page,
+                                                               @Positive @Max(PAGE_MAX_SIZE) @RequestParam int size,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "false") boolean withTotal,
+                                                               WebRequest webRequest) {
         try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by(DEFAULT_SORT).descending());
-            Page<Room> roomPageByHotelId = roomService.getRoomPageByHotelId(pageable, hotelId);
-            var roomListPageResponseDto = new RoomListPageResponseDto(roomPageByHotelId);
+            var roomPageCursor = cursor == null ? null : RoomPageCursor.decode(cursor);
+            var hotelRoomVersion = roomService.getHotelRoomVersion(hotelId);
+            if (webRequest.checkNotModified(String.valueOf(hotelRoomVersion.getRoomVersion()),
+                    hotelRoomVersion.getUpdatedAt())) {
+                return null;
+            }
+            RoomListPageResponseDto roomListPageResponseDto;
+            if (page != null && cursor == null) {
+                Pageable pageable = PageRequest.of(page, size, Sort.by(DEFAULT_SORT, ID_SORT).descending());
+                Page<RoomView> roomPageByHotelId = roomService.getRoomPageByHotelId(pageable, hotelId);
+                roomListPageResponseDto = new RoomListPageResponseDto(roomPageByHotelId);
+            } else {
+                Slice<RoomView> roomSliceByHotelId = roomService.getRoomSliceByHotelId(hotelId, roomPageCursor, size);
+                Long totalItems = withTotal ? roomService.countRoomsByHotelId(hotelId) : null;
+                roomListPageResponseDto = new RoomListPageResponseDto(roomSliceByHotelId, totalItems);
+            }
             return getSuccessResponse(roomListPageResponseDto, SuccessResponseStatusType.ROOM_BY_HOTEL_ID, HttpStatus.OK);
+        } catch (InvalidPageCursorException e) {
+            log.error("Invalid page cursor to get room list by hotel id: {}", hotelId);
+            return getErrorResponse(ErrorResponseStatusType.INVALID_PAGE_CURSOR);
         } catch (RoomServiceException e) {
             log.error("Getting room list by hotel id was failed.", e);
             return getInternalServerError();
@@ -153,26 +253,391 @@ public class RoomController extends Controller {
         }
     }
 
+    /**
+     * This endpoint used to occupy a room for the nights from the check in date until the check out date.
+     *
+     * @param roomId                  roomId
+     * @param roomOccupancyRequestDto roomOccupancyRequestDto
+     * @return Success/Unsuccessful response
+     */
+    @PutMapping("/{roomId}/occupancy")
+    public ResponseEntity<ResponseWrapper> occupyRoom(@PathVariable String roomId,
+                                                      @RequestBody RoomOccupancyRequestDto roomOccupancyRequestDto) {
+        try {
+            if (!roomOccupancyRequestDto.isRequiredAvailable()) {
+                log.error("Missing required filed to occupy a room.");
+                return getErrorResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            roomAvailabilityService.occupyRoom(roomId, StayNights.of(roomOccupancyRequestDto.getCheckIn(),
+                    roomOccupancyRequestDto.getCheckOut()));
+            return getSuccessResponse(null, SuccessResponseStatusType.OCCUPY_ROOM, HttpStatus.OK);
+        } catch (InvalidRoomException e) {
+            log.error("Invalid room id to occupy room.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to occupy room id: {}", roomId);
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
+        } catch (RoomNotAvailableException e) {
+            log.error("Room id: {} is not available for the stay.", roomId);
+            return getErrorResponse(ErrorResponseStatusType.ROOM_NOT_AVAILABLE);
+        } catch (RoomServiceException e) {
+            log.error("Occupying room by id was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
+    /**
+     * This endpoint used to release the nights from the check in date until the check out date of a room.
+     *
+     * @param roomId   roomId
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return Success/Unsuccessful response
+     */
+    @DeleteMapping("/{roomId}/occupancy")
+    public ResponseEntity<ResponseWrapper> releaseRoom(@PathVariable String roomId,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                       LocalDate checkIn,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                       LocalDate checkOut) {
+        try {
+            roomAvailabilityService.releaseRoom(roomId, StayNights.of(checkIn, checkOut));
+            return getSuccessResponse(null, SuccessResponseStatusType.RELEASE_ROOM, HttpStatus.OK);
+        } catch (InvalidRoomException e) {
+            log.error("Invalid room id to release room.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to release room id: {}", roomId);
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
+        } catch (RoomNotAvailableException e) {
+            log.error("Occupancy of room id: {} was changed concurrently.", roomId);
+            return getErrorResponse(ErrorResponseStatusType.ROOM_NOT_AVAILABLE);
+        } catch (RoomServiceException e) {
+            log.error("Releasing room by id was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
+    /**
+     * This endpoint used to override the price per night of a room for the nights from the check in date until
+     * the check out date.
+     *
+     * @param roomId                     roomId
+     * @param roomRateOverrideRequestDto roomRateOverrideRequestDto
+     * @return Success/Unsuccessful response
+     */
+    @PutMapping("/{roomId}/rate-override")
+    public ResponseEntity<ResponseWrapper> overrideRoomRate(@PathVariable String roomId,
+                                                            @RequestBody RoomRateOverrideRequestDto
+                                                                    roomRateOverrideRequestDto) {
+        try {
+            if (!roomRateOverrideRequestDto.isRequiredAvailable()) {
+                log.error("Missing required filed to override a room rate.");
+                return getErrorResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            roomRateService.setRateOverride(roomId, StayNights.of(roomRateOverrideRequestDto.getCheckIn(),
+                    roomRateOverrideRequestDto.getCheckOut()), roomRateOverrideRequestDto.getPricePerNight());
+            return getSuccessResponse(null, SuccessResponseStatusType.OVERRIDE_ROOM_RATE, HttpStatus.OK);
+        } catch (InvalidRoomException e) {
+            log.error("Invalid room id to override room rate.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to override rate of room id: {}", roomId);
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
+        } catch (RoomServiceException e) {
+            log.error("Overriding room rate by id was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
+    /**
+     * This endpoint used to remove the price per night overrides of a room for the nights from the check in date
+     * until the check out date.
+     *
+     * @param roomId   roomId
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return Success/Unsuccessful response
+     */
+    @DeleteMapping("/{roomId}/rate-override")
+    public ResponseEntity<ResponseWrapper> removeRoomRateOverrides(@PathVariable String roomId,
+                                                                   @RequestParam
+                                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                   LocalDate checkIn,
+                                                                   @RequestParam
+                                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                   LocalDate checkOut) {
+        try {
+            roomRateService.removeRateOverrides(roomId, StayNights.of(checkIn, checkOut));
+            return getSuccessResponse(null, SuccessResponseStatusType.REMOVE_ROOM_RATE_OVERRIDES, HttpStatus.OK);
+        } catch (InvalidRoomException e) {
+            log.error("Invalid room id to remove room rate overrides.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to remove rate overrides of room id: {}", roomId);
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
+        } catch (RoomServiceException e) {
+            log.error("Removing room rate overrides by id was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
     /**
      * This endpoint used to get hotel room for the search.
+     * When check in and check out dates are given only rooms free on every night of the stay are returned and the
+     * cost of a room is the total of its nights including rate overrides. Otherwise the cost is the cost per night
+     * times the days.
      *
      * @param count    count
      * @param days     days
      * @param hotelIds hotelIds
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
      * @return searchRoomListResponseDto
      */
     @GetMapping("/list-hotel-room-by")
     public ResponseEntity<ResponseWrapper> getHotelRooms(@RequestParam int count,
-                                                         @RequestParam int days,
-                                                         @RequestParam List<String> hotelIds) {
+                                                         @RequestParam(required = false) Integer days,
+                                                         @RequestParam List<String> hotelIds,
+                                                         @RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                         LocalDate checkIn,
+                                                         @RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                         LocalDate checkOut) {
         try {
-            var rooms = roomService.getRoomsForPaxCountAndHotelIds(count, hotelIds);
-            RoomListResponseDto roomListResponseDto = new RoomListResponseDto(rooms, days);
-            log.info("Successfully returned the hotel rooms for pax count :{} and day count: {} ", count, days);
+            var stayNights = getStayNights(checkIn, checkOut);
+            if (days == null && stayNights == null) {
+                log.error("Missing day count or stay dates to search rooms.");
+                return getErrorResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            var rooms = roomService.getRoomsForPaxCountAndHotelIds(count, hotelIds, stayNights);
+            RoomListResponseDto roomListResponseDto = new RoomListResponseDto(rooms,
+                    getStayPricer(rooms, days, stayNights));
+            log.info("Successfully returned the hotel rooms for pax count :{} and day count: {} ", count,
+                    stayNights == null ? days : stayNights.getNightCount());
             return getSuccessResponse(roomListResponseDto, SuccessResponseStatusType.SEARCH_ROOMS, HttpStatus.OK);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to search rooms.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
         } catch (RoomServiceException e) {
             log.error("Getting rooms by id and hotel ids was failed.", e);
             return getInternalServerError();
         }
     }
+
+    /**
+     * This endpoint used to get the search summaries of the hotels which can host the pax count.
+     * Hotels are answered from their room summaries with the cheapest cost of the stay, and only the first expand
+     * hotels, the hotels displayed by the client, are searched for their rooms. Rooms of the expanded hotels are
+     * free on every night of the stay when dates are given and priced like the search.
+     *
+     * @param count    count
+     * @param days     days
+     * @param hotelIds hotelIds
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @param expand   number of hotels to search for their rooms
+     * @return hotelSummaryListResponseDto
+     */
+    @GetMapping("/list-hotel-room-by/summary")
+    public ResponseEntity<ResponseWrapper> getHotelSummaries(@RequestParam int count,
+                                                             @RequestParam(required = false) Integer days,
+                                                             @RequestParam List<String> hotelIds,
+                                                             @RequestParam(required = false)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                             LocalDate checkIn,
+                                                             @RequestParam(required = false)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                             LocalDate checkOut,
+                                                             @Min(0) @Max(PAGE_MAX_SIZE)
+                                                             @RequestParam(defaultValue = "10") int expand) {
+        try {
+            var stayNights = getStayNights(checkIn, checkOut);
+            if (days == null && stayNights == null) {
+                log.error("Missing day count or stay dates to search hotel summaries.");
+                return getErrorResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            int nightCount = stayNights == null ? days : stayNights.getNightCount();
+            var hotelSummaries = roomService.getHotelSummariesForPaxCount(count, hotelIds, nightCount);
+            var expandedHotelSummaries = hotelSummaries.subList(0, Math.min(Math.max(expand, 0),
+                    hotelSummaries.size()));
+            if (!expandedHotelSummaries.isEmpty()) {
+                List<String> expandedHotelIds = new ArrayList<>(expandedHotelSummaries.size());
+                expandedHotelSummaries.forEach(hotelSummary -> expandedHotelIds.add(hotelSummary.getHotelId()));
+                var rooms = roomService.getRoomsForPaxCountAndHotelIds(count, expandedHotelIds, stayNights);
+                var stayPricer = getStayPricer(rooms, days, stayNights);
+                for (HotelSummaryResponseDto hotelSummary : expandedHotelSummaries) {
+                    List<RoomResponseDto> roomResponseDtoList = new ArrayList<>();
+                    for (Room room : rooms.getOrDefault(hotelSummary.getHotelId(), List.of())) {
+                        roomResponseDtoList.add(new RoomResponseDto(room, stayPricer.applyAsLong(room)));
+                    }
+                    hotelSummary.setRooms(roomResponseDtoList);
+                }
+            }
+            log.info("Successfully returned the hotel summaries for pax count :{} and day count: {} ", count,
+                    nightCount);
+            return getSuccessResponse(new HotelSummaryListResponseDto(hotelSummaries),
+                    SuccessResponseStatusType.SEARCH_HOTEL_SUMMARIES, HttpStatus.OK);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to search hotel summaries.");
+            return getErrorResponse(ErrorResponseStatusType.INVALID_STAY_DATES);
+        } catch (RoomServiceException e) {
+            log.error("Getting hotel summaries by hotel ids was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
+    /**
+     * This endpoint used to stream hotel rooms for the search as newline delimited json.
+     * Each line is the search result of one hotel and is written as soon as its chunk of hotels is evaluated.
+     * When check in and check out dates are given only rooms free on every night of the stay are streamed and
+     * priced like the search.
+     *
+     * @param count    count
+     * @param days     days
+     * @param hotelIds hotelIds
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return stream of roomSearchResponseDto
+     */
+    @GetMapping(value = "/list-hotel-room-by/stream", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHotelRooms(@RequestParam int count,
+                                                                  @RequestParam(required = false) Integer days,
+                                                                  @RequestParam List<String> hotelIds,
+                                                                  @RequestParam(required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                  LocalDate checkIn,
+                                                                  @RequestParam(required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                  LocalDate checkOut) {
+        StayNights stayNights;
+        try {
+            stayNights = getStayNights(checkIn, checkOut);
+        } catch (InvalidStayException e) {
+            log.error("Invalid stay dates to stream rooms.");
+            return ResponseEntity.badRequest().build();
+        }
+        if (days == null && stayNights == null) {
+            log.error("Missing day count or stay dates to stream rooms.");
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody responseBody = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                roomService.streamRoomsForPaxCountAndHotelIds(count, hotelIds, stayNights, roomsByHotelId ->
+                        writeSearchResults(writer, roomsByHotelId, getStayPricer(roomsByHotelId, days, stayNights)));
+                writer.flush();
+                log.info("Successfully streamed the hotel rooms for pax count :{} and day count: {} ", count,
+                        stayNights == null ? days : stayNights.getNightCount());
+            } catch (RoomServiceException | UncheckedIOException e) {
+                log.error("Streaming rooms by pax count and hotel ids was failed.", e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(responseBody);
+    }
+
+    /**
+     * This method creates the pricer of the searched rooms. Rate overrides are loaded in one query for all rooms
+     * when the stay has dates.
+     *
+     * @param roomsByHotelId hotel id vs room list map
+     * @param days           days
+     * @param stayNights     stayNights or null when no dates are given
+     * @return stayPricer
+     */
+    private StayPricer getStayPricer(Map<String, List<Room>> roomsByHotelId, Integer days, StayNights stayNights) {
+        if (stayNights == null) {
+            return StayPricer.ofDays(days);
+        }
+        List<Room> rooms = new ArrayList<>();
+        roomsByHotelId.values().forEach(rooms::addAll);
+        return StayPricer.of(stayNights, roomRateService.getNightlyRates(rooms, stayNights));
+    }
+
+    /**
+     * This method creates the stay nights of the search.
+     *
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return stayNights or null when no dates are given
+     */
+    private StayNights getStayNights(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null && checkOut == null) {
+            return null;
+        }
+        return StayNights.of(checkIn, checkOut);
+    }
+
+    /**
+     * This method saves the bulk rows and creates the response.
+     *
+     * @param bulkRoomRequestDtoList rows
+     * @return bulkRoomResponseDto
+     */
+    private ResponseEntity<ResponseWrapper> saveBulkRooms(List<BulkRoomRequestDto> bulkRoomRequestDtoList) {
+        try {
+            var bulkRoomResponseDto = roomService.saveRooms(bulkRoomRequestDtoList);
+            return getSuccessResponse(bulkRoomResponseDto, SuccessResponseStatusType.BULK_ROOMS, HttpStatus.OK);
+        } catch (InvalidBulkRoomRequestException e) {
+            log.error("Bulk room request exceeds the row limit.");
+            return getErrorResponse(ErrorResponseStatusType.BULK_ROW_LIMIT_EXCEEDED);
+        } catch (RoomServiceException e) {
+            log.error("Saving rooms in bulk was failed.", e);
+            return getInternalServerError();
+        }
+    }
+
+    /**
+     * This method reads the non blank lines of a newline delimited json upload as bulk rows.
+     * Rows are read with the application object mapper, the same as the json array upload. Reading stops after one
+     * row more than the limit, and lines which can not be parsed are returned as null rows.
+     *
+     * @param inputStream inputStream
+     * @param maxRows     maxRows
+     * @return rows
+     * @throws IOException when reading the upload is failed
+     */
+    private List<BulkRoomRequestDto> readBulkRoomRows(InputStream inputStream, int maxRows) throws IOException {
+        List<BulkRoomRequestDto> bulkRoomRequestDtoList = new ArrayList<>();
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while (bulkRoomRequestDtoList.size() <= maxRows && (line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                bulkRoomRequestDtoList.add(bulkRoomRequestReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                log.error("Invalid bulk room row at index {}.", bulkRoomRequestDtoList.size());
+                bulkRoomRequestDtoList.add(null);
+            }
+        }
+        return bulkRoomRequestDtoList;
+    }
+
+    /**
+     * This method writes the search result of each hotel as a json line and flushes them to the client.
+     *
+     * @param writer         writer
+     * @param roomsByHotelId hotel id vs room list map
+     * @param stayPricer     stayPricer
+     */
+    private void writeSearchResults(Writer writer, Map<String, List<Room>> roomsByHotelId, StayPricer stayPricer) {
+        for (Map.Entry<String, List<Room>> entry : roomsByHotelId.entrySet()) {
+            try {
+                writer.write(new RoomSearchResponseDto(entry.getKey(), entry.getValue(), stayPricer).toJson());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Writing search result for hotel id " + entry.getKey() +
+                        " was failed.", e);
+            }
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Flushing search results was failed.", e);
+        }
+    }
 }
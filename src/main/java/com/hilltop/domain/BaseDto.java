@@ -1,7 +1,6 @@
 package com.hilltop.domain;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hilltop.exception.RoomServiceException;
 
 import java.io.Serializable;
@@ -18,7 +17,20 @@ public interface BaseDto extends Serializable {
      */
     default String toJson() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return DtoJsonWriters.writerFor(getClass()).writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new RoomServiceException("Object to json conversion was failed.", e);
+        }
+    }
+
+    /**
+     * This method converts object to json string with the fields annotated with Masked obfuscated.
+     *
+     * @return json string
+     */
+    default String toMaskedJson() {
+        try {
+            return DtoJsonWriters.maskingWriterFor(getClass()).writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new RoomServiceException("Object to json conversion was failed.", e);
         }
@@ -26,7 +38,7 @@ public interface BaseDto extends Serializable {
 
     /**
      * This method converts object to json string for logging purpose.
-     * PII data should be obfuscated.
+     * PII data should be obfuscated, eg: by annotating the fields with Masked and returning toMaskedJson.
      *
      * @return json string
      */
@@ -0,0 +1,99 @@
+package com.hilltop.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+
+/**
+ * Shared json writers for BaseDto.
+ * ObjectMapper and ObjectWriter are thread safe, so one mapper is configured once and one writer is cached per
+ * dto class instead of introspecting the dto on every conversion.
+ */
+final class DtoJsonWriters {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final ObjectMapper MASKING_OBJECT_MAPPER = OBJECT_MAPPER.copy()
+            .setAnnotationIntrospector(new MaskingAnnotationIntrospector());
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return OBJECT_MAPPER.writerFor(type);
+        }
+    };
+
+    private static final ClassValue<ObjectWriter> MASKING_WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return MASKING_OBJECT_MAPPER.writerFor(type);
+        }
+    };
+
+    private DtoJsonWriters() {
+    }
+
+    /**
+     * This method returns the cached writer for the dto class.
+     *
+     * @param type dto class
+     * @return objectWriter
+     */
+    static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    /**
+     * This method returns the cached writer for the dto class which obfuscates fields annotated with Masked.
+     *
+     * @param type dto class
+     * @return objectWriter
+     */
+    static ObjectWriter maskingWriterFor(Class<?> type) {
+        return MASKING_WRITERS.get(type);
+    }
+
+    /**
+     * Uses the MaskedValueSerializer for properties annotated with Masked.
+     */
+    private static class MaskingAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findSerializer(Annotated annotated) {
+            if (annotated.hasAnnotation(Masked.class)) {
+                return MaskedValueSerializer.class;
+            }
+            return super.findSerializer(annotated);
+        }
+    }
+
+    /**
+     * Writes a fixed mask instead of the value.
+     */
+    private static class MaskedValueSerializer extends StdSerializer<Object> {
+
+        private static final long serialVersionUID = 1L;
+        private static final String MASK = "****";
+
+        MaskedValueSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator jsonGenerator, SerializerProvider provider)
+                throws IOException {
+            jsonGenerator.writeString(MASK);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hilltop.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a dto field as PII data. The value is obfuscated in the json written by BaseDto.toMaskedJson.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Masked {
+}
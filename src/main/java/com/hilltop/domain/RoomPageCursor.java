@@ -0,0 +1,65 @@
+package com.hilltop.domain;
+
+import com.hilltop.exception.InvalidPageCursorException;
+import com.hilltop.model.RoomView;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Continuation token of the keyset pagination of rooms.
+ * Points to the last returned room by its (updatedAt, id) key and is handed to clients as an opaque url safe string.
+ */
+@Getter
+public final class RoomPageCursor {
+
+    private static final char SEPARATOR = ':';
+    private final long updatedAt;
+    private final String id;
+
+    public RoomPageCursor(long updatedAt, String id) {
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    /**
+     * This method creates the cursor pointing to the given room.
+     *
+     * @param room last room of a page
+     * @return roomPageCursor
+     */
+    public static RoomPageCursor of(RoomView room) {
+        return new RoomPageCursor(room.getUpdatedAt(), room.getId());
+    }
+
+    /**
+     * This method converts the cursor into the opaque token.
+     *
+     * @return cursor token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((updatedAt + String.valueOf(SEPARATOR) + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method reads the cursor from the opaque token.
+     *
+     * @param token cursor token
+     * @return roomPageCursor
+     */
+    public static RoomPageCursor decode(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == value.length() - 1) {
+                throw new InvalidPageCursorException("Invalid page cursor: " + token);
+            }
+            return new RoomPageCursor(Long.parseLong(value.substring(0, separatorIndex)),
+                    value.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException("Invalid page cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hilltop.domain;
+
+import com.hilltop.exception.InvalidStayException;
+import com.hilltop.model.RoomOccupancy;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Nights of a stay from the check in date until the check out date as bitmaps per year.
+ * Night n of a year is bit n - 1, the same layout as the occupied nights of a RoomOccupancy, so checking whether a
+ * room is free is a bitmap intersection per year instead of comparing dates.
+ */
+@Getter
+public final class StayNights {
+
+    public static final int MAX_NIGHTS = 365;
+    private final LocalDate checkIn;
+    private final LocalDate checkOut;
+    private final int nightCount;
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, BitSet> nightsByYear;
+
+    private StayNights(LocalDate checkIn, LocalDate checkOut) {
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.nightCount = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        Map<Integer, BitSet> nights = new TreeMap<>();
+        var from = checkIn;
+        while (from.isBefore(checkOut)) {
+            var nextYear = LocalDate.of(from.getYear() + 1, 1, 1);
+            var to = checkOut.isBefore(nextYear) ? checkOut : nextYear;
+            var yearNights = new BitSet(RoomOccupancy.NIGHTS_PER_YEAR);
+            yearNights.set(from.getDayOfYear() - 1, from.getDayOfYear() - 1 + (int) ChronoUnit.DAYS.between(from, to));
+            nights.put(from.getYear(), yearNights);
+            from = to;
+        }
+        this.nightsByYear = Collections.unmodifiableMap(nights);
+    }
+
+    /**
+     * This method creates the stay nights for the check in and check out dates.
+     *
+     * @param checkIn  checkIn
+     * @param checkOut checkOut
+     * @return stayNights
+     */
+    public static StayNights of(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            throw new InvalidStayException("Check out date must be after check in date.");
+        }
+        if (ChronoUnit.DAYS.between(checkIn, checkOut) > MAX_NIGHTS) {
+            throw new InvalidStayException("Stay exceeds " + MAX_NIGHTS + " nights.");
+        }
+        return new StayNights(checkIn, checkOut);
+    }
+
+    /**
+     * This method returns the years the stay has nights in.
+     *
+     * @return years in ascending order
+     */
+    public Set<Integer> getYears() {
+        return nightsByYear.keySet();
+    }
+
+    /**
+     * This method returns a copy of the nights of the stay in the year.
+     *
+     * @param year year
+     * @return night bitmap, empty when the stay has no nights in the year
+     */
+    public BitSet getNights(int year) {
+        BitSet nights = nightsByYear.get(year);
+        return nights == null ? new BitSet() : (BitSet) nights.clone();
+    }
+
+    /**
+     * This method checks whether any night of the stay is occupied in the room occupancy.
+     *
+     * @param roomOccupancy occupancy of a room in a year
+     * @return true when the stay overlaps the occupied nights
+     */
+    public boolean overlaps(RoomOccupancy roomOccupancy) {
+        BitSet nights = nightsByYear.get(roomOccupancy.getYear());
+        return nights != null && nights.intersects(roomOccupancy.getOccupiedNights());
+    }
+}
@@ -0,0 +1,21 @@
+package com.hilltop.domain.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Row of a bulk room request. Rows with an id update the existing room, rows without an id create a new room.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkRoomRequestDto extends RoomCreateRequestDto {
+
+    private String id;
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return super.isRequiredAvailable() && getPricePerNight() != null;
+    }
+}
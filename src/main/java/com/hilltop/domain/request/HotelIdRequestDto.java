@@ -17,6 +17,6 @@ public class HotelIdRequestDto extends RequestDto {
 
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 }
@@ -27,7 +27,7 @@ public class RoomCreateRequestDto extends RequestDto {
 
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 
     @Override
@@ -0,0 +1,31 @@
+package com.hilltop.domain.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * RoomOccupancyRequestDto
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomOccupancyRequestDto extends RequestDto {
+
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @Override
+    public String toLogJson() {
+        return toMaskedJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return checkIn != null && checkOut != null;
+    }
+}
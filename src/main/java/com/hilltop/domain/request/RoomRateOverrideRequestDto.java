@@ -0,0 +1,33 @@
+package com.hilltop.domain.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * RoomRateOverrideRequestDto
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomRateOverrideRequestDto extends RequestDto {
+
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private BigDecimal pricePerNight;
+
+    @Override
+    public String toLogJson() {
+        return toMaskedJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return checkIn != null && checkOut != null && pricePerNight != null && pricePerNight.signum() >= 0;
+    }
+}
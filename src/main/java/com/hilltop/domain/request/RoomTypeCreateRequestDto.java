@@ -19,6 +19,6 @@ public class RoomTypeCreateRequestDto extends RequestDto {
 
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 }
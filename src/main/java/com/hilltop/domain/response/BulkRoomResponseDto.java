@@ -0,0 +1,29 @@
+package com.hilltop.domain.response;
+
+import com.hilltop.enums.BulkRoomResultStatus;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * BulkRoomResponseDto
+ */
+@Getter
+public class BulkRoomResponseDto extends ResponseDto {
+
+    private final int createdCount;
+    private final int updatedCount;
+    private final int failedCount;
+    private final List<BulkRoomResultDto> results;
+
+    public BulkRoomResponseDto(List<BulkRoomResultDto> results) {
+        this.createdCount = countByStatus(results, BulkRoomResultStatus.CREATED);
+        this.updatedCount = countByStatus(results, BulkRoomResultStatus.UPDATED);
+        this.failedCount = countByStatus(results, BulkRoomResultStatus.FAILED);
+        this.results = results;
+    }
+
+    private int countByStatus(List<BulkRoomResultDto> results, BulkRoomResultStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hilltop.domain.response;
+
+import com.hilltop.enums.BulkRoomResultStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Result of a row of a bulk room request.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class BulkRoomResultDto extends ResponseDto {
+
+    private int index;
+    private String id;
+    private BulkRoomResultStatus status;
+    private String message;
+
+    public static BulkRoomResultDto failed(int index, String id, String message) {
+        return new BulkRoomResultDto(index, id, BulkRoomResultStatus.FAILED, message);
+    }
+}
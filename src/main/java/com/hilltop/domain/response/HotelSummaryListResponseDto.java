@@ -0,0 +1,17 @@
+package com.hilltop.domain.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class HotelSummaryListResponseDto extends ResponseDto {
+
+    private transient List<HotelSummaryResponseDto> list;
+
+    public HotelSummaryListResponseDto(List<HotelSummaryResponseDto> list) {
+        this.list = list;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hilltop.domain.response;
+
+import com.hilltop.pricing.RoomPricing;
+import com.hilltop.search.HotelSummary;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Search summary of a hotel which can host the pax count. Rooms are only set for the expanded hotels.
+ */
+@Getter
+@Setter
+public class HotelSummaryResponseDto extends ResponseDto {
+
+    private String hotelId;
+    private int maxRoomPaxCount;
+    private long totalPaxCapacity;
+    private BigDecimal fromCost;
+    private List<PaxBucketResponseDto> paxBuckets;
+    private List<RoomResponseDto> rooms;
+
+    /**
+     * Creates the summary of a hotel with the cheapest cost of the whole stay.
+     *
+     * @param hotelSummary       hotelSummary
+     * @param fromCostMinorUnits cheapest stay total in minor units
+     */
+    public HotelSummaryResponseDto(HotelSummary hotelSummary, long fromCostMinorUnits) {
+        this.hotelId = hotelSummary.getHotelId();
+        this.maxRoomPaxCount = hotelSummary.getMaxRoomPaxCount();
+        this.totalPaxCapacity = hotelSummary.getTotalPaxCapacity();
+        this.fromCost = RoomPricing.toDecimal(fromCostMinorUnits);
+        int[] paxCounts = hotelSummary.getPaxCounts();
+        this.paxBuckets = new ArrayList<>(paxCounts.length);
+        for (int bucket = 0; bucket < paxCounts.length; bucket++) {
+            paxBuckets.add(new PaxBucketResponseDto(paxCounts[bucket], hotelSummary.getRoomCount(bucket),
+                    RoomPricing.toDecimal(hotelSummary.getMinCostMinorUnits(bucket))));
+        }
+    }
+
+    /**
+     * Rooms of a hotel with the same pax count and their cheapest cost per night.
+     */
+    @Getter
+    @Setter
+    public static class PaxBucketResponseDto {
+
+        private int paxCount;
+        private int roomCount;
+        private BigDecimal minCost;
+
+        public PaxBucketResponseDto(int paxCount, int roomCount, BigDecimal minCost) {
+            this.paxCount = paxCount;
+            this.roomCount = roomCount;
+            this.minCost = minCost;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * Base class for paging dto
@@ -15,23 +16,49 @@ public class PageResponseDto extends ResponseDto {
 
     private static final int ZERO = 0;
     private static final int ONE = 1;
-    private final long totalItems;
-    private final int totalPages;
+    private final Long totalItems;
+    private final Integer totalPages;
     private final int page;
     private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
 
     public PageResponseDto(Page<?> page) {
+        this(page, null);
+    }
+
+    public PageResponseDto(Page<?> page, String nextCursor) {
         this.totalItems = page.getTotalElements();
         this.totalPages = page.getTotalPages();
         this.page = page.getNumber();
         this.size = page.getSize();
+        this.hasNext = page.hasNext();
+        this.nextCursor = nextCursor;
     }
 
-    public PageResponseDto(int totalItems, int page, int size) {
+    /**
+     * Keyset page without page numbers. Totals are only set when the count was requested.
+     *
+     * @param slice      slice
+     * @param totalItems total items or null when not counted
+     * @param nextCursor cursor of the next page or null for the last page
+     */
+    public PageResponseDto(Slice<?> slice, Long totalItems, String nextCursor) {
         this.totalItems = totalItems;
+        this.totalPages = totalItems == null ? null : calculateTotalPages(totalItems, slice.getSize());
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.nextCursor = nextCursor;
+    }
+
+    public PageResponseDto(int totalItems, int page, int size) {
+        this.totalItems = (long) totalItems;
         this.totalPages = calculateTotalPages(totalItems, size);
         this.page = page;
         this.size = size;
+        this.hasNext = page + ONE < totalPages;
+        this.nextCursor = null;
     }
 
     /**
@@ -41,18 +68,18 @@ public class PageResponseDto extends ResponseDto {
      * @param size       size
      * @return number of pages.
      */
-    private int calculateTotalPages(int totalItems, int size) {
+    private int calculateTotalPages(long totalItems, int size) {
         if (totalItems == ZERO)
             return ZERO;
         if (totalItems <= size)
             return ONE;
         if (totalItems % size == ZERO)
-            return totalItems / size;
-        return totalItems / size + ONE;
+            return (int) (totalItems / size);
+        return (int) (totalItems / size + ONE);
     }
 
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 }
@@ -8,6 +8,6 @@ import com.hilltop.domain.BaseDto;
 public abstract class ResponseDto implements BaseDto {
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 }
@@ -1,8 +1,10 @@
 package com.hilltop.domain.response;
 
-import com.hilltop.model.Room;
+import com.hilltop.domain.RoomPageCursor;
+import com.hilltop.model.RoomView;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -12,12 +14,24 @@ public class RoomListPageResponseDto extends PageResponseDto {
 
     private final List<RoomResponseDto> roomResponses;
 
-    public RoomListPageResponseDto(Page<Room> roomPage) {
-        super(roomPage);
+    public RoomListPageResponseDto(Page<RoomView> roomPage) {
+        super(roomPage, generateNextCursor(roomPage));
         this.roomResponses = generateRoomResponseList(roomPage);
     }
 
-    private List<RoomResponseDto> generateRoomResponseList(Page<Room> rooms) {
+    public RoomListPageResponseDto(Slice<RoomView> roomSlice, Long totalItems) {
+        super(roomSlice, totalItems, generateNextCursor(roomSlice));
+        this.roomResponses = generateRoomResponseList(roomSlice);
+    }
+
+    private List<RoomResponseDto> generateRoomResponseList(Slice<RoomView> rooms) {
         return rooms.getContent().stream().map(RoomResponseDto::new).collect(Collectors.toList());
     }
+
+    private static String generateNextCursor(Slice<RoomView> rooms) {
+        if (!rooms.hasNext() || rooms.getContent().isEmpty()) {
+            return null;
+        }
+        return RoomPageCursor.of(rooms.getContent().get(rooms.getNumberOfElements() - 1)).encode();
+    }
 }
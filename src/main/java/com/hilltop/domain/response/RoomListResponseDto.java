@@ -1,13 +1,14 @@
 package com.hilltop.domain.response;
 
 import com.hilltop.model.Room;
+import com.hilltop.pricing.StayPricer;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.ToLongFunction;
 
 @Getter
 @Setter
@@ -16,20 +17,22 @@ public class RoomListResponseDto extends ResponseDto {
     private transient List<RoomSearchResponseDto> list;
 
     public RoomListResponseDto(Map<String, List<Room>> dataMap, int days) {
-        list = generateResponse(dataMap, days);
+        this(dataMap, StayPricer.ofDays(days));
     }
 
-    private List<RoomSearchResponseDto> generateResponse(Map<String, List<Room>> dataMap, int days) {
-        List<RoomSearchResponseDto> roomSearchResponseDtoList = new ArrayList<>();
+    public RoomListResponseDto(Map<String, List<Room>> dataMap, ToLongFunction<Room> stayPricer) {
+        list = generateResponse(dataMap, stayPricer);
+    }
+
+    public RoomListResponseDto(List<RoomSearchResponseDto> list) {
+        this.list = list;
+    }
 
+    private List<RoomSearchResponseDto> generateResponse(Map<String, List<Room>> dataMap,
+                                                         ToLongFunction<Room> stayPricer) {
+        List<RoomSearchResponseDto> roomSearchResponseDtoList = new ArrayList<>(dataMap.size());
         for (Map.Entry<String, List<Room>> entry : dataMap.entrySet()) {
-            String id = entry.getKey();
-            List<RoomResponseDto> roomsList = entry.getValue()
-                    .stream()
-                    .map(RoomResponseDto::new)
-                    .collect(Collectors.toList());
-            RoomSearchResponseDto roomSearchResponseDto = new RoomSearchResponseDto(id, roomsList ,days);
-            roomSearchResponseDtoList.add(roomSearchResponseDto);
+            roomSearchResponseDtoList.add(new RoomSearchResponseDto(entry.getKey(), entry.getValue(), stayPricer));
         }
         return roomSearchResponseDtoList;
     }
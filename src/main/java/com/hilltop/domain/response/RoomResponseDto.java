@@ -1,6 +1,8 @@
 package com.hilltop.domain.response;
 
 import com.hilltop.model.Room;
+import com.hilltop.model.RoomView;
+import com.hilltop.pricing.RoomPricing;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -23,12 +25,26 @@ public class RoomResponseDto extends ResponseDto {
     private BigDecimal cost;
 
     public RoomResponseDto(Room room) {
+        this(room, room.getCostMinorUnits());
+    }
+
+    public RoomResponseDto(Room room, long costMinorUnits) {
         this.id = room.getId();
         this.roomNumber = room.getRoomNumber();
         this.hotelId = room.getHotelId();
         this.roomTypeName = room.getRoomType().getName();
         this.paxCount = room.getPaxCount();
         this.imageUrls = room.getImageUrls();
-        cost = room.getCost();
+        this.cost = RoomPricing.toDecimal(costMinorUnits);
+    }
+
+    public RoomResponseDto(RoomView roomView) {
+        this.id = roomView.getId();
+        this.roomNumber = roomView.getRoomNumber();
+        this.hotelId = roomView.getHotelId();
+        this.roomTypeName = roomView.getRoomTypeName();
+        this.paxCount = roomView.getPaxCount();
+        this.imageUrls = roomView.getImageUrls();
+        this.cost = roomView.getCost();
     }
 }
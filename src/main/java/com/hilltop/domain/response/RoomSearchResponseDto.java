@@ -1,25 +1,32 @@
 package com.hilltop.domain.response;
 
+import com.hilltop.model.Room;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 @Getter
 @Setter
-public class RoomSearchResponseDto {
+public class RoomSearchResponseDto extends ResponseDto {
 
     private String hotelId;
     private List<RoomResponseDto> rooms;
 
-    public RoomSearchResponseDto(String hotelId, List<RoomResponseDto> rooms, int days) {
+    /**
+     * Creates the search result of a hotel with the cost of each room for the whole stay.
+     *
+     * @param hotelId    hotelId
+     * @param rooms      rooms
+     * @param stayPricer stay total of a room in minor units
+     */
+    public RoomSearchResponseDto(String hotelId, List<Room> rooms, ToLongFunction<Room> stayPricer) {
         this.hotelId = hotelId;
-        this.rooms = generateRoomCostForGivenPeriods(rooms, days);
-    }
-
-    private List<RoomResponseDto> generateRoomCostForGivenPeriods(List<RoomResponseDto> rooms, int days) {
-        rooms.forEach(roomResponseDto -> roomResponseDto.setCost(roomResponseDto.getCost().multiply(BigDecimal.valueOf(days))));
-        return rooms;
+        this.rooms = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            this.rooms.add(new RoomResponseDto(room, stayPricer.applyAsLong(room)));
+        }
     }
 }
@@ -0,0 +1,10 @@
+package com.hilltop.enums;
+
+/**
+ * BulkRoomResultStatus
+ */
+public enum BulkRoomResultStatus {
+    CREATED,
+    UPDATED,
+    FAILED
+}
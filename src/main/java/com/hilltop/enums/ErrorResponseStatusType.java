@@ -12,7 +12,11 @@ public enum ErrorResponseStatusType {
     INTERNAL_SERVER_ERROR(5000, "Internal server error."),
     INVALID_ROOM_ID(4001," Invalid room id."),
     MISSING_REQUIRED_FIELDS(4002,"Required fields are missing."),
-    INVALID_ROOM_TYPE(4003,"Invalid room type.");
+    INVALID_ROOM_TYPE(4003,"Invalid room type."),
+    INVALID_PAGE_CURSOR(4004, "Invalid page cursor."),
+    BULK_ROW_LIMIT_EXCEEDED(4005, "Bulk room request exceeds the row limit."),
+    INVALID_STAY_DATES(4006, "Invalid check in or check out date."),
+    ROOM_NOT_AVAILABLE(4007, "Room is not available for the given dates.");
 
     private final int code;
     private final String message;
@@ -0,0 +1,9 @@
+package com.hilltop.enums;
+
+/**
+ * IdStrategy
+ */
+public enum IdStrategy {
+    RANDOM,
+    TIME_ORDERED
+}
@@ -14,7 +14,13 @@ public enum SuccessResponseStatusType {
     ROOM_BY_HOTEL_ID(2003, "Successfully returned the room list by hotel id."),
     DELETE_ROOM(2004,"Successfully deleted the room."),
     UPDATE_ROOM(2005,"Successfully update the room."),
-    SEARCH_ROOMS(2006,"Successfully returned the search room list.");
+    SEARCH_ROOMS(2006,"Successfully returned the search room list."),
+    BULK_ROOMS(2007, "Successfully processed the bulk room request."),
+    OCCUPY_ROOM(2008, "Successfully occupied the room."),
+    RELEASE_ROOM(2009, "Successfully released the room."),
+    OVERRIDE_ROOM_RATE(2010, "Successfully overrode the room rate."),
+    REMOVE_ROOM_RATE_OVERRIDES(2011, "Successfully removed the room rate overrides."),
+    SEARCH_HOTEL_SUMMARIES(2012, "Successfully returned the search hotel summary list.");
 
     private final int code;
     private final String message;
@@ -0,0 +1,11 @@
+package com.hilltop.exception;
+
+/**
+ * InvalidBulkRoomRequestException
+ */
+public class InvalidBulkRoomRequestException extends RoomServiceException {
+
+    public InvalidBulkRoomRequestException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hilltop.exception;
+
+/**
+ * InvalidPageCursorException
+ */
+public class InvalidPageCursorException extends RoomServiceException {
+
+    public InvalidPageCursorException(String errorMessage) {
+        super(errorMessage);
+    }
+}
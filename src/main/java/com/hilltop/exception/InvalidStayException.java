@@ -0,0 +1,11 @@
+package com.hilltop.exception;
+
+/**
+ * InvalidStayException
+ */
+public class InvalidStayException extends RoomServiceException {
+
+    public InvalidStayException(String errorMessage) {
+        super(errorMessage);
+    }
+}
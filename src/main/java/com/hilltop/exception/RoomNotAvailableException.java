@@ -0,0 +1,11 @@
+package com.hilltop.exception;
+
+/**
+ * RoomNotAvailableException
+ */
+public class RoomNotAvailableException extends RoomServiceException {
+
+    public RoomNotAvailableException(String errorMessage) {
+        super(errorMessage);
+    }
+}
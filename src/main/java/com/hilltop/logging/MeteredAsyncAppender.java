@@ -0,0 +1,54 @@
+package com.hilltop.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Async appender which hands events to its appenders through a bounded queue and counts the events it drops.
+ * Once the remaining capacity of the queue falls below the discarding threshold, DEBUG and TRACE events are
+ * dropped while INFO and WARN events are kept. With neverBlock, events are also dropped once the queue is full, so
+ * ERROR events are routed to an appender which blocks instead (see logback-spring.xml).
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isDropped(event)) {
+            droppedCount.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /**
+     * This method used to check whether an event would be dropped by the queue. The capacity is read before the
+     * event is queued, so the count is approximate while the queue is drained concurrently.
+     *
+     * @param event logging event
+     * @return true if the event is dropped
+     */
+    private boolean isDropped(ILoggingEvent event) {
+        int remainingCapacity = getRemainingCapacity();
+        return (remainingCapacity < getDiscardingThreshold() && isDiscardable(event))
+                || (isNeverBlock() && remainingCapacity == 0);
+    }
+
+    /**
+     * This method used to get the events dropped since the appender was created.
+     *
+     * @return dropped event count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,68 @@
+package com.hilltop.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.hilltop.logging.MeteredAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Meters of the async appenders of logback-spring.xml.
+ * Exports the queue depth, the remaining capacity and the dropped events of every async appender attached to a
+ * logger, so a growing queue or dropped DEBUG events show up before request threads block on the ERROR queue.
+ */
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (MeteredAsyncAppender appender : getAsyncAppenders().values()) {
+            Gauge.builder("logging.async.queue.depth", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", appender.getName())
+                    .description("Events waiting in the queue of the async appender")
+                    .register(meterRegistry);
+            Gauge.builder("logging.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                    .tag("appender", appender.getName())
+                    .description("Remaining capacity of the queue of the async appender")
+                    .register(meterRegistry);
+            FunctionCounter.builder("logging.async.dropped", appender, MeteredAsyncAppender::getDroppedCount)
+                    .tag("appender", appender.getName())
+                    .description("Events dropped by the async appender")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * This method used to get the async appenders attached to the loggers of the logback context by name.
+     *
+     * @return async appenders by name
+     */
+    private Map<String, MeteredAsyncAppender> getAsyncAppenders() {
+        Map<String, MeteredAsyncAppender> appenders = new LinkedHashMap<>();
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext)) {
+            return appenders;
+        }
+        for (Logger logger : ((LoggerContext) loggerFactory).getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                Appender<ILoggingEvent> appender = iterator.next();
+                if (appender instanceof MeteredAsyncAppender) {
+                    appenders.putIfAbsent(appender.getName(), (MeteredAsyncAppender) appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
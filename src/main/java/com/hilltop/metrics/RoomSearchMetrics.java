@@ -0,0 +1,90 @@
+package com.hilltop.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the room search.
+ * Splits the search latency into its stages and records the size of every search, so the http and repository
+ * timers can be related to the work done by a search. Histograms are enabled for the room.search prefix in the
+ * application config.
+ */
+@Component
+public class RoomSearchMetrics {
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer combinationTimer;
+    private final DistributionSummary hotelsPerSearch;
+    private final DistributionSummary roomsEvaluated;
+
+    public RoomSearchMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("room.search.stage").tag("stage", stage.name().toLowerCase())
+                    .description(stage.description).register(meterRegistry));
+        }
+        this.combinationTimer = Timer.builder("room.search.combination")
+                .description("Time to find the best room combination of a hotel for the pax count")
+                .register(meterRegistry);
+        this.hotelsPerSearch = DistributionSummary.builder("room.search.hotels")
+                .description("Distinct hotels of a search").baseUnit("hotels")
+                .register(meterRegistry);
+        this.roomsEvaluated = DistributionSummary.builder("room.search.rooms.evaluated")
+                .description("Rooms of the hotels evaluated by a search").baseUnit("rooms")
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method times a stage of a search.
+     *
+     * @param stage    stage
+     * @param supplier work of the stage
+     * @param <T>      result type
+     * @return result of the stage
+     */
+    public <T> T timeStage(Stage stage, Supplier<T> supplier) {
+        return stageTimers.get(stage).record(supplier);
+    }
+
+    /**
+     * This method times the room combination search of a hotel.
+     *
+     * @param supplier combination search
+     * @param <T>      result type
+     * @return result of the combination search
+     */
+    public <T> T timeCombination(Supplier<T> supplier) {
+        return combinationTimer.record(supplier);
+    }
+
+    /**
+     * This method records the size of a search.
+     *
+     * @param hotelCount distinct hotels of the search
+     * @param roomCount  rooms of the hotels evaluated by the search
+     */
+    public void recordSearch(int hotelCount, long roomCount) {
+        hotelsPerSearch.record(hotelCount);
+        roomsEvaluated.record(roomCount);
+    }
+
+    /**
+     * Stages of a search.
+     */
+    public enum Stage {
+        INDEX("Time to get the room indexes of the hotels of a search from the cache or database"),
+        AVAILABILITY("Time to leave the rooms occupied on the stay out of the room indexes"),
+        EVALUATE("Time to evaluate the room indexes of the hotels of a search for the pax count");
+
+        private final String description;
+
+        Stage(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hilltop.model;
+
+import com.hilltop.enums.IdStrategy;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the application assigned ids of the entities.
+ * Ids are random version 4 uuids by default. With the time ordered strategy they are version 7 uuids, which start
+ * with the creation time in milliseconds, so new rows are appended to the end of the clustered index instead of
+ * being inserted at random pages. Both strategies produce the same prefixed 36 character format.
+ */
+public final class EntityIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+    private static volatile IdStrategy strategy = IdStrategy.RANDOM;
+
+    private EntityIds() {
+    }
+
+    /**
+     * This method sets the strategy of the new ids.
+     *
+     * @param idStrategy idStrategy
+     */
+    public static void setStrategy(IdStrategy idStrategy) {
+        strategy = idStrategy;
+    }
+
+    /**
+     * This method creates a new id with the given prefix.
+     *
+     * @param prefix prefix
+     * @return id
+     */
+    public static String newId(String prefix) {
+        var uuid = strategy == IdStrategy.TIME_ORDERED ? timeOrderedUuid() : UUID.randomUUID();
+        return prefix + uuid;
+    }
+
+    /**
+     * This method creates a version 7 uuid. The 12 bits after the version hold a sequence so ids created in the same
+     * millisecond are still ordered within this instance.
+     *
+     * @return uuid
+     */
+    static UUID timeOrderedUuid() {
+        long now = System.currentTimeMillis();
+        long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last ->
+                (last >>> SEQUENCE_BITS) < now ? now << SEQUENCE_BITS : last + 1);
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificantBits = timestamp << 16 | VERSION_7 | sequence;
+        long leastSignificantBits = RANDOM.nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,55 @@
+package com.hilltop.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * Rooms of a hotel with the same pax count and the cheapest cost per night among them.
+ * Rows are only written by the statements of HotelRoomSummaryRepository on room writes, so the pax count
+ * buckets of a hotel can be read with one query instead of loading its rooms.
+ */
+@Entity
+@Table(name = "hotel_room_summary")
+@IdClass(HotelRoomSummary.HotelRoomSummaryId.class)
+@Getter
+@NoArgsConstructor
+public class HotelRoomSummary {
+
+    @Id
+    private String hotelId;
+    @Id
+    private int paxCount;
+    private int roomCount;
+    private long minCostMinorUnits;
+
+    public HotelRoomSummary(String hotelId, int paxCount, int roomCount, long minCostMinorUnits) {
+        this.hotelId = hotelId;
+        this.paxCount = paxCount;
+        this.roomCount = roomCount;
+        this.minCostMinorUnits = minCostMinorUnits;
+    }
+
+    /**
+     * Primary key of the hotel room summary, the pax count bucket of a hotel.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class HotelRoomSummaryId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private String hotelId;
+        private int paxCount;
+    }
+}
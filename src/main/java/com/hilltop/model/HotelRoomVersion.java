@@ -0,0 +1,31 @@
+package com.hilltop.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Version of the room listing of a hotel.
+ * Incremented with an upsert on every room write of the hotel, so a listing request can be validated against the
+ * ETag or Last-Modified of the client with a primary key lookup instead of reading the rooms.
+ */
+@Entity
+@Table(name = "hotel_room_version")
+@Getter
+@NoArgsConstructor
+public class HotelRoomVersion {
+
+    @Id
+    private String hotelId;
+    private long roomVersion;
+    private long updatedAt;
+
+    public HotelRoomVersion(String hotelId, long roomVersion, long updatedAt) {
+        this.hotelId = hotelId;
+        this.roomVersion = roomVersion;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,26 +1,30 @@
 package com.hilltop.model;
 
 import com.hilltop.domain.request.RoomCreateRequestDto;
-import lombok.AllArgsConstructor;
+import com.hilltop.pricing.RoomPricing;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Room Entity
  */
 @Entity
-@Table(name = "room")
+@Table(name = "room", indexes = {
+        @Index(name = "idx_room_hotel_id_pax_count", columnList = "hotelId, paxCount"),
+        @Index(name = "idx_room_hotel_id_updated_at_id", columnList = "hotelId, updatedAt, id")})
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor
 @Setter
-public class Room {
+public class Room implements Persistable<String> {
 
     @Transient
     private static final String ROOM_ID_PREFIX = "rid-";
@@ -33,15 +37,35 @@ public class Room {
     @ManyToOne
     private RoomType roomType;
     @ElementCollection
+    @BatchSize(size = 250)
+    @CollectionTable(name = "room_image_urls", indexes = @Index(name = "idx_room_image_urls_room_id",
+            columnList = "room_id"))
     private List<String> imageUrls;
-    private BigDecimal cost;
-    private BigDecimal pricePerNight;
+    private long costMinorUnits;
+    private long pricePerNightMinorUnits;
     private long createdAt;
     private long updatedAt;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
 
+    public Room(String id, int roomNumber, String hotelId, int paxCount, RoomType roomType, List<String> imageUrls,
+                BigDecimal cost, BigDecimal pricePerNight, long createdAt, long updatedAt) {
+        this.id = id;
+        this.roomNumber = roomNumber;
+        this.hotelId = hotelId;
+        this.paxCount = paxCount;
+        this.roomType = roomType;
+        this.imageUrls = imageUrls;
+        this.costMinorUnits = RoomPricing.toMinorUnits(cost);
+        this.pricePerNightMinorUnits = RoomPricing.toMinorUnits(pricePerNight);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
     public Room(RoomCreateRequestDto roomCreateRequestDto, RoomType roomType) {
-        this.id = ROOM_ID_PREFIX + UUID.randomUUID();
+        this.id = EntityIds.newId(ROOM_ID_PREFIX);
         this.roomNumber = roomCreateRequestDto.getRoomNumber();
         this.paxCount = roomCreateRequestDto.getPaxCount();
         this.hotelId = roomCreateRequestDto.getHotelId();
@@ -49,7 +73,8 @@ public class Room {
         this.imageUrls = roomCreateRequestDto.getImageUrls();
         this.updatedAt = System.currentTimeMillis();
         this.createdAt = System.currentTimeMillis();
-        this.cost = calculateRoomCost(roomCreateRequestDto.getPricePerNight(), roomType);
+        this.pricePerNightMinorUnits = RoomPricing.toMinorUnits(roomCreateRequestDto.getPricePerNight());
+        this.costMinorUnits = calculateRoomCost(pricePerNightMinorUnits, roomType);
     }
 
     public void update(RoomCreateRequestDto roomCreateRequestDto, RoomType roomType) {
@@ -59,12 +84,54 @@ public class Room {
         this.roomType = roomType;
         this.imageUrls = roomCreateRequestDto.getImageUrls();
         this.updatedAt = System.currentTimeMillis();
-        this.cost = calculateRoomCost(roomCreateRequestDto.getPricePerNight(), roomType);
+        this.pricePerNightMinorUnits = RoomPricing.toMinorUnits(roomCreateRequestDto.getPricePerNight());
+        this.costMinorUnits = calculateRoomCost(pricePerNightMinorUnits, roomType);
+    }
+
+    /**
+     * This method returns the cost per night with the markup of the room type.
+     *
+     * @return cost
+     */
+    public BigDecimal getCost() {
+        return RoomPricing.toDecimal(costMinorUnits);
+    }
+
+    public void setCost(BigDecimal cost) {
+        this.costMinorUnits = RoomPricing.toMinorUnits(cost);
+    }
+
+    /**
+     * This method returns the price per night without markup.
+     *
+     * @return pricePerNight
+     */
+    public BigDecimal getPricePerNight() {
+        return RoomPricing.toDecimal(pricePerNightMinorUnits);
+    }
+
+    public void setPricePerNight(BigDecimal pricePerNight) {
+        this.pricePerNightMinorUnits = RoomPricing.toMinorUnits(pricePerNight);
+    }
+
+    /**
+     * Rooms have application assigned ids, so a room is new until it is persisted or loaded. This lets save
+     * persist new rooms with a single insert instead of merging them with a select before the insert.
+     *
+     * @return true for a room which is not in the database yet
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
     }
 
-    private BigDecimal calculateRoomCost(BigDecimal pricePerNight, RoomType roomType) {
-        BigDecimal markupValue = pricePerNight
-                .multiply(BigDecimal.valueOf(roomType.getMarkupPercentage() / 100));
-        return pricePerNight.add(markupValue);
+    private long calculateRoomCost(long pricePerNightMinorUnits, RoomType roomType) {
+        return RoomPricing.applyMarkup(pricePerNightMinorUnits, roomType.getMarkupBasisPoints());
     }
 }
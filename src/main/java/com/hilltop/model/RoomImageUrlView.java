@@ -0,0 +1,11 @@
+package com.hilltop.model;
+
+/**
+ * Read only projection of an image url of a room.
+ */
+public interface RoomImageUrlView {
+
+    String getRoomId();
+
+    String getImageUrl();
+}
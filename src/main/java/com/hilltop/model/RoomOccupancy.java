@@ -0,0 +1,76 @@
+package com.hilltop.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.BitSet;
+
+/**
+ * Occupied nights of a room in a year.
+ * Night n of the year is bit n - 1 of the bitmap, so a year of a room is one row of at most 46 bytes and the
+ * availability of a stay is checked by intersecting bitmaps.
+ */
+@Entity
+@Table(name = "room_occupancy")
+@IdClass(RoomOccupancy.RoomOccupancyId.class)
+@Getter
+@NoArgsConstructor
+public class RoomOccupancy {
+
+    public static final int NIGHTS_PER_YEAR = 366;
+    private static final int MAX_BITMAP_BYTES = (NIGHTS_PER_YEAR + Byte.SIZE - 1) / Byte.SIZE;
+
+    @Id
+    private String roomId;
+    @Id
+    @Column(name = "occupancy_year")
+    private int year;
+    @Column(nullable = false, length = MAX_BITMAP_BYTES)
+    private byte[] nights;
+    @Version
+    private Long version;
+
+    public RoomOccupancy(String roomId, int year) {
+        this.roomId = roomId;
+        this.year = year;
+        this.nights = new byte[0];
+    }
+
+    /**
+     * This method returns a copy of the occupied nights.
+     *
+     * @return occupied night bitmap
+     */
+    public BitSet getOccupiedNights() {
+        return BitSet.valueOf(nights);
+    }
+
+    /**
+     * This method replaces the occupied nights.
+     *
+     * @param occupiedNights occupied night bitmap
+     */
+    public void setOccupiedNights(BitSet occupiedNights) {
+        this.nights = occupiedNights.toByteArray();
+    }
+
+    /**
+     * Primary key of the room occupancy.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class RoomOccupancyId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private String roomId;
+        private int year;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hilltop.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Price per night of a room for a single night, used instead of the price per night of the room.
+ */
+@Entity
+@Table(name = "room_rate_override")
+@IdClass(RoomRateOverride.RoomRateOverrideId.class)
+@Getter
+@NoArgsConstructor
+public class RoomRateOverride implements Persistable<RoomRateOverride.RoomRateOverrideId> {
+
+    @Id
+    private String roomId;
+    @Id
+    private LocalDate night;
+    private long pricePerNightMinorUnits;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RoomRateOverride(String roomId, LocalDate night, long pricePerNightMinorUnits) {
+        this.roomId = roomId;
+        this.night = night;
+        this.pricePerNightMinorUnits = pricePerNightMinorUnits;
+    }
+
+    @Override
+    public RoomRateOverrideId getId() {
+        return new RoomRateOverrideId(roomId, night);
+    }
+
+    /**
+     * Overrides of a range are replaced by deleting and inserting them, so an override is new until it is
+     * persisted or loaded.
+     *
+     * @return true for an override which is not in the database yet
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    /**
+     * Primary key of the room rate override.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class RoomRateOverrideId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private String roomId;
+        private LocalDate night;
+    }
+}
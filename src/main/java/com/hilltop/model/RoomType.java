@@ -1,16 +1,14 @@
 package com.hilltop.model;
 
 import com.hilltop.domain.request.RoomTypeCreateRequestDto;
-import lombok.AllArgsConstructor;
+import com.hilltop.pricing.RoomPricing;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
-import javax.persistence.Entity;
-import javax.persistence.Id;
-import javax.persistence.Table;
-import javax.persistence.Transient;
-import java.util.UUID;
+import javax.persistence.*;
 
 /**
  * RoomType Entity
@@ -18,10 +16,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "room_type")
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor
 @Setter
-public class RoomType {
+public class RoomType implements Persistable<String> {
 
     @Transient
     private static final String ROOM_ID_PREFIX = "rtid-";
@@ -30,10 +27,45 @@ public class RoomType {
     private String id;
     private String name;
     private double markupPercentage;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RoomType(String id, String name, double markupPercentage) {
+        this.id = id;
+        this.name = name;
+        this.markupPercentage = markupPercentage;
+    }
 
     public RoomType(RoomTypeCreateRequestDto roomTypeCreateRequestDto) {
-        this.id = ROOM_ID_PREFIX + UUID.randomUUID();
+        this.id = EntityIds.newId(ROOM_ID_PREFIX);
         this.name = roomTypeCreateRequestDto.getRoomType();
         this.markupPercentage = roomTypeCreateRequestDto.getMarkupPercentage();
     }
+
+    /**
+     * This method returns the markup percentage in basis points for the minor unit price arithmetic.
+     *
+     * @return markup basis points
+     */
+    public long getMarkupBasisPoints() {
+        return RoomPricing.toBasisPoints(markupPercentage);
+    }
+
+    /**
+     * Room types have application assigned ids, so a room type is new until it is persisted or loaded.
+     *
+     * @return true for a room type which is not in the database yet
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
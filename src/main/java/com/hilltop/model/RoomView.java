@@ -0,0 +1,47 @@
+package com.hilltop.model;
+
+import com.hilltop.pricing.RoomPricing;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Read only projection of a room with the columns of the room responses.
+ * Created by constructor expressions in RoomRepository, so it is never managed by the persistence context and
+ * needs neither a dirty checking snapshot nor the room type entity. Image urls are filled in by a second query.
+ */
+@Getter
+public class RoomView {
+
+    private final String id;
+    private final int roomNumber;
+    private final String hotelId;
+    private final int paxCount;
+    private final String roomTypeName;
+    private final long costMinorUnits;
+    private final long updatedAt;
+    @Setter
+    private List<String> imageUrls = List.of();
+
+    public RoomView(String id, int roomNumber, String hotelId, int paxCount, String roomTypeName,
+                    long costMinorUnits, long updatedAt) {
+        this.id = id;
+        this.roomNumber = roomNumber;
+        this.hotelId = hotelId;
+        this.paxCount = paxCount;
+        this.roomTypeName = roomTypeName;
+        this.costMinorUnits = costMinorUnits;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * This method returns the cost per night with the markup of the room type.
+     *
+     * @return cost
+     */
+    public BigDecimal getCost() {
+        return RoomPricing.toDecimal(costMinorUnits);
+    }
+}
@@ -0,0 +1,81 @@
+package com.hilltop.pricing;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per night cost overrides of a room.
+ * Nights are held as sorted epoch days next to their cost in minor units, so a stay total is a binary search for
+ * the check in night followed by a scan of the overridden nights of the stay, without any allocation.
+ */
+public final class NightlyRates {
+
+    private final long[] epochDays;
+    private final long[] costMinorUnits;
+
+    private NightlyRates(long[] epochDays, long[] costMinorUnits) {
+        this.epochDays = epochDays;
+        this.costMinorUnits = costMinorUnits;
+    }
+
+    /**
+     * This method creates the nightly rates from the overridden cost of each night.
+     *
+     * @param costMinorUnitsByNight night vs cost in minor units
+     * @return nightlyRates
+     */
+    public static NightlyRates of(Map<LocalDate, Long> costMinorUnitsByNight) {
+        var sortedCosts = new TreeMap<>(costMinorUnitsByNight);
+        long[] epochDays = new long[sortedCosts.size()];
+        long[] costMinorUnits = new long[sortedCosts.size()];
+        int index = 0;
+        for (Map.Entry<LocalDate, Long> entry : sortedCosts.entrySet()) {
+            epochDays[index] = entry.getKey().toEpochDay();
+            costMinorUnits[index++] = entry.getValue();
+        }
+        return new NightlyRates(epochDays, costMinorUnits);
+    }
+
+    /**
+     * This method calculates the total of a stay, using the override for overridden nights and the base cost for
+     * all other nights.
+     *
+     * @param baseCostMinorUnits base cost per night in minor units
+     * @param checkInEpochDay    epoch day of the check in date
+     * @param nights             nights
+     * @return stay total in minor units
+     */
+    public long stayTotal(long baseCostMinorUnits, long checkInEpochDay, int nights) {
+        long total = RoomPricing.stayTotal(baseCostMinorUnits, nights);
+        long checkOutEpochDay = checkInEpochDay + nights;
+        for (int index = firstNightFrom(checkInEpochDay); index < epochDays.length
+                && epochDays[index] < checkOutEpochDay; index++) {
+            total = Math.addExact(total, costMinorUnits[index] - baseCostMinorUnits);
+        }
+        return total;
+    }
+
+    /**
+     * This method returns the number of overridden nights.
+     *
+     * @return size
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    private int firstNightFrom(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
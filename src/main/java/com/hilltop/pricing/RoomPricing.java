@@ -0,0 +1,77 @@
+package com.hilltop.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Price arithmetic on minor units.
+ * Prices are held as longs scaled by MINOR_UNIT_SCALE decimal places, eg: 123.45 is 12345, so markups and stay
+ * totals are exact integer arithmetic without allocating a BigDecimal per room. BigDecimal is only used at the api
+ * boundary.
+ */
+public final class RoomPricing {
+
+    public static final int MINOR_UNIT_SCALE = 2;
+    private static final long BASIS_POINTS = 10_000L;
+    private static final int BASIS_POINTS_PER_PERCENT = 100;
+
+    private RoomPricing() {
+    }
+
+    /**
+     * This method converts an amount into minor units, rounding half up.
+     *
+     * @param amount amount
+     * @return minor units, 0 for null
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * This method converts minor units into an amount.
+     *
+     * @param minorUnits minorUnits
+     * @return amount with MINOR_UNIT_SCALE decimal places
+     */
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * This method converts a markup percentage into basis points, eg: 12.5 % is 1250.
+     *
+     * @param markupPercentage markupPercentage
+     * @return markup basis points
+     */
+    public static long toBasisPoints(double markupPercentage) {
+        return Math.round(markupPercentage * BASIS_POINTS_PER_PERCENT);
+    }
+
+    /**
+     * This method adds the markup to a price, rounding the markup half up to a minor unit.
+     *
+     * @param priceMinorUnits   price in minor units
+     * @param markupBasisPoints markup basis points
+     * @return price with markup in minor units
+     */
+    public static long applyMarkup(long priceMinorUnits, long markupBasisPoints) {
+        long scaledMarkup = Math.multiplyExact(priceMinorUnits, markupBasisPoints);
+        long markup = Math.floorDiv(Math.addExact(scaledMarkup, BASIS_POINTS / 2), BASIS_POINTS);
+        return Math.addExact(priceMinorUnits, markup);
+    }
+
+    /**
+     * This method calculates the total of a stay with the same cost every night.
+     *
+     * @param nightlyCostMinorUnits cost per night in minor units
+     * @param nights                nights
+     * @return stay total in minor units
+     */
+    public static long stayTotal(long nightlyCostMinorUnits, int nights) {
+        return Math.multiplyExact(nightlyCostMinorUnits, nights);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hilltop.pricing;
+
+import com.hilltop.domain.StayNights;
+import com.hilltop.model.Room;
+
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Calculates the stay total of rooms in minor units.
+ * A stay without dates is priced as the nightly cost times the days. A stay with dates uses the nightly rate
+ * overrides of the rooms for the overridden nights.
+ */
+public final class StayPricer implements ToLongFunction<Room> {
+
+    private final int nights;
+    private final long checkInEpochDay;
+    private final Map<String, NightlyRates> nightlyRatesByRoomId;
+
+    private StayPricer(int nights, long checkInEpochDay, Map<String, NightlyRates> nightlyRatesByRoomId) {
+        this.nights = nights;
+        this.checkInEpochDay = checkInEpochDay;
+        this.nightlyRatesByRoomId = nightlyRatesByRoomId;
+    }
+
+    /**
+     * This method creates the pricer for a stay of the given days without dates.
+     *
+     * @param days days
+     * @return stayPricer
+     */
+    public static StayPricer ofDays(int days) {
+        return new StayPricer(days, 0, Map.of());
+    }
+
+    /**
+     * This method creates the pricer for the stay nights with the nightly rate overrides of the rooms.
+     *
+     * @param stayNights           stayNights
+     * @param nightlyRatesByRoomId room id vs nightly rates, rooms without overrides can be left out
+     * @return stayPricer
+     */
+    public static StayPricer of(StayNights stayNights, Map<String, NightlyRates> nightlyRatesByRoomId) {
+        return new StayPricer(stayNights.getNightCount(), stayNights.getCheckIn().toEpochDay(),
+                nightlyRatesByRoomId);
+    }
+
+    /**
+     * This method calculates the stay total of the room.
+     *
+     * @param room room
+     * @return stay total in minor units
+     */
+    @Override
+    public long applyAsLong(Room room) {
+        var nightlyRates = nightlyRatesByRoomId.get(room.getId());
+        if (nightlyRates == null) {
+            return RoomPricing.stayTotal(room.getCostMinorUnits(), nights);
+        }
+        return nightlyRates.stayTotal(room.getCostMinorUnits(), checkInEpochDay, nights);
+    }
+}
@@ -0,0 +1,54 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.HotelRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * HotelRoomSummaryRepository
+ */
+public interface HotelRoomSummaryRepository
+        extends JpaRepository<HotelRoomSummary, HotelRoomSummary.HotelRoomSummaryId> {
+
+    /**
+     * Returns the pax count buckets of the hotels.
+     *
+     * @param hotelIds hotelIds
+     * @return HotelRoomSummary List
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT s FROM HotelRoomSummary s WHERE s.hotelId IN :hotelIds")
+    List<HotelRoomSummary> findByHotelIdIn(@Param("hotelIds") Collection<String> hotelIds);
+
+    /**
+     * Recounts a pax count bucket of a hotel from its rooms after rooms were written. Run in the transaction of
+     * the room write, so the bucket counts the rooms committed with it instead of being adjusted by a delta.
+     * The room write locks the room version row of the hotel first, so the locking reads of concurrent refreshes
+     * of a hotel do not interleave. Served by the (hotel_id, pax_count) index of the room table.
+     *
+     * @param hotelId  hotelId
+     * @param paxCount paxCount
+     */
+    @Transactional
+    default void refreshBucket(String hotelId, int paxCount) {
+        deleteBucket(hotelId, paxCount);
+        insertBucket(hotelId, paxCount);
+    }
+
+    @Modifying
+    @Query(value = "DELETE FROM hotel_room_summary WHERE hotel_id = :hotelId AND pax_count = :paxCount",
+            nativeQuery = true)
+    int deleteBucket(@Param("hotelId") String hotelId, @Param("paxCount") int paxCount);
+
+    @Modifying
+    @Query(value = "INSERT INTO hotel_room_summary (hotel_id, pax_count, room_count, min_cost_minor_units) " +
+            "SELECT hotel_id, pax_count, COUNT(*), MIN(cost_minor_units) FROM room " +
+            "WHERE hotel_id = :hotelId AND pax_count = :paxCount GROUP BY hotel_id, pax_count", nativeQuery = true)
+    int insertBucket(@Param("hotelId") String hotelId, @Param("paxCount") int paxCount);
+}
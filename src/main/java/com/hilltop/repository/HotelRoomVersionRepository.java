@@ -0,0 +1,29 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.HotelRoomVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * HotelRoomVersionRepository
+ */
+public interface HotelRoomVersionRepository extends JpaRepository<HotelRoomVersion, String> {
+
+    /**
+     * Increments the room version of a hotel in a single statement, creating the version of a hotel on its first
+     * room write. Concurrent writes of the same hotel are serialized by the primary key.
+     *
+     * @param hotelId   hotelId
+     * @param updatedAt time of the room write
+     * @return affected row count
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO hotel_room_version (hotel_id, room_version, updated_at) VALUES (:hotelId, 1, " +
+            ":updatedAt) ON DUPLICATE KEY UPDATE room_version = room_version + 1, " +
+            "updated_at = GREATEST(updated_at, :updatedAt)", nativeQuery = true)
+    int incrementRoomVersion(@Param("hotelId") String hotelId, @Param("updatedAt") long updatedAt);
+}
@@ -0,0 +1,22 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.RoomOccupancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RoomOccupancyRepository
+ */
+public interface RoomOccupancyRepository extends JpaRepository<RoomOccupancy, RoomOccupancy.RoomOccupancyId> {
+
+    /**
+     * Returns the occupancies of the rooms in the years, served by the (room_id, occupancy_year) primary key.
+     *
+     * @param roomIds roomIds
+     * @param years   years
+     * @return RoomOccupancy List
+     */
+    List<RoomOccupancy> findByRoomIdInAndYearIn(Collection<String> roomIds, Collection<Integer> years);
+}
@@ -0,0 +1,48 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.RoomRateOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RoomRateOverrideRepository
+ */
+public interface RoomRateOverrideRepository
+        extends JpaRepository<RoomRateOverride, RoomRateOverride.RoomRateOverrideId> {
+
+    /**
+     * Returns the overrides of the rooms for the nights from the check in date until the check out date, served by
+     * the (room_id, night) primary key.
+     *
+     * @param roomIds  roomIds
+     * @param checkIn  first night
+     * @param checkOut night after the last night
+     * @return RoomRateOverride List
+     */
+    @Query("SELECT o FROM RoomRateOverride o WHERE o.roomId IN :roomIds AND o.night >= :checkIn " +
+            "AND o.night < :checkOut")
+    List<RoomRateOverride> findByRoomIdInAndNights(@Param("roomIds") Collection<String> roomIds,
+                                                   @Param("checkIn") LocalDate checkIn,
+                                                   @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * Deletes the overrides of a room for the nights from the check in date until the check out date in a single
+     * statement.
+     *
+     * @param roomId   roomId
+     * @param checkIn  first night
+     * @param checkOut night after the last night
+     * @return deleted override count
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RoomRateOverride o WHERE o.roomId = :roomId AND o.night >= :checkIn " +
+            "AND o.night < :checkOut")
+    int deleteByRoomIdAndNights(@Param("roomId") String roomId, @Param("checkIn") LocalDate checkIn,
+                                @Param("checkOut") LocalDate checkOut);
+}
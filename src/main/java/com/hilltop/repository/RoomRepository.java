@@ -1,23 +1,127 @@
 package com.hilltop.repository;
 
 import com.hilltop.model.Room;
+import com.hilltop.model.RoomImageUrlView;
+import com.hilltop.model.RoomView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * RoomRepository
  */
 public interface RoomRepository extends JpaRepository<Room, String> {
 
-    Page<Room> findByHotelId(Pageable pageable, String hotelId);
+    String ROOM_VIEW = "new com.hilltop.model.RoomView(r.id, r.roomNumber, r.hotelId, r.paxCount, rt.name, " +
+            "r.costMinorUnits, r.updatedAt)";
 
+    List<Room> findByHotelId(String hotelId);
 
-    List<Room> getAllByHotelIdInAndPaxCountGreaterThanEqual(List<String> hotelIds,int paxCount);
+    /**
+     * Returns the room with the room type and image urls fetched in the same query.
+     *
+     * @param id roomId
+     * @return Room Optional
+     */
+    @EntityGraph(attributePaths = {"roomType", "imageUrls"})
+    Optional<Room> findWithDetailsById(String id);
 
-    List<Room> findByHotelId(String hotelId);
+    /**
+     * Returns the last update time of a room without loading the room.
+     *
+     * @param id roomId
+     * @return updatedAt Optional
+     */
+    @Query("SELECT r.updatedAt FROM Room r WHERE r.id = :id")
+    Optional<Long> findUpdatedAtById(@Param("id") String id);
+
+    /**
+     * Returns the hotel id of a room without loading the room.
+     *
+     * @param id roomId
+     * @return hotelId Optional
+     */
+    @Query("SELECT r.hotelId FROM Room r WHERE r.id = :id")
+    Optional<String> findHotelIdById(@Param("id") String id);
+
+    /**
+     * Returns the offset page of room views of a hotel in a read only transaction.
+     *
+     * @param hotelId  hotelId
+     * @param pageable page, size and sort
+     * @return RoomView Page
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + ROOM_VIEW + " FROM Room r LEFT JOIN r.roomType rt WHERE r.hotelId = :hotelId",
+            countQuery = "SELECT COUNT(r) FROM Room r WHERE r.hotelId = :hotelId")
+    Page<RoomView> findRoomViewsByHotelId(@Param("hotelId") String hotelId, Pageable pageable);
+
+    /**
+     * Returns the first keyset page of room views of a hotel in a read only transaction without counting the rooms.
+     *
+     * @param hotelId  hotelId
+     * @param pageable page size
+     * @return RoomView Slice ordered by updatedAt and id descending
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT " + ROOM_VIEW + " FROM Room r LEFT JOIN r.roomType rt WHERE r.hotelId = :hotelId " +
+            "ORDER BY r.updatedAt DESC, r.id DESC")
+    Slice<RoomView> findFirstRoomViewsByHotelId(@Param("hotelId") String hotelId, Pageable pageable);
+
+    /**
+     * Returns the keyset page of room views of a hotel following the given (updatedAt, id) key in a read only
+     * transaction without counting the rooms. Seeks on the hotel_id, updated_at, id index instead of skipping an
+     * offset.
+     *
+     * @param hotelId   hotelId
+     * @param updatedAt updatedAt of the last room of the previous page
+     * @param id        id of the last room of the previous page
+     * @param pageable  page size
+     * @return RoomView Slice ordered by updatedAt and id descending
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT " + ROOM_VIEW + " FROM Room r LEFT JOIN r.roomType rt WHERE r.hotelId = :hotelId AND " +
+            "(r.updatedAt < :updatedAt OR (r.updatedAt = :updatedAt AND r.id < :id)) " +
+            "ORDER BY r.updatedAt DESC, r.id DESC")
+    Slice<RoomView> findRoomViewsByHotelIdAfter(@Param("hotelId") String hotelId, @Param("updatedAt") long updatedAt,
+                                                @Param("id") String id, Pageable pageable);
+
+    /**
+     * Returns the image urls of the rooms in a read only transaction.
+     *
+     * @param roomIds roomIds
+     * @return RoomImageUrlView List
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT r.id AS roomId, u AS imageUrl FROM Room r JOIN r.imageUrls u WHERE r.id IN :roomIds")
+    List<RoomImageUrlView> findImageUrlsByRoomIdIn(@Param("roomIds") Collection<String> roomIds);
+
+    long countByHotelId(String hotelId);
 
+    /**
+     * Returns all rooms of the given hotels with the room type and image urls fetched in the same query.
+     * Pax count is not filtered here since smaller rooms are needed for the room combinations. The rooms are kept
+     * by the inventory cache and never written, so they are loaded read only without dirty checking snapshots.
+     *
+     * @param hotelIds hotelIds
+     * @return Room List
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.roomType LEFT JOIN FETCH r.imageUrls " +
+            "WHERE r.hotelId IN :hotelIds")
+    @QueryHints({@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.READ_ONLY, value = "true")})
+    List<Room> findRoomsWithDetailsByHotelIdIn(@Param("hotelIds") Collection<String> hotelIds);
 
 }
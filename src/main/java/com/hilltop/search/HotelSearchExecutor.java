@@ -0,0 +1,159 @@
+package com.hilltop.search;
+
+import com.hilltop.exception.RoomServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded executor for the per hotel search evaluation.
+ * Large hotel lists are split into partitions evaluated in parallel, smaller ones run on the calling thread.
+ * Results are always returned in the order of the given hotels. Partitions are rejected instead of run on the
+ * calling thread when the queue is full, so an overloaded search fails fast instead of exceeding its deadline.
+ * The deadline is checked between hotels on both paths, and cancelled partitions stop at the next hotel so
+ * abandoned searches do not keep the pool busy.
+ */
+@Component
+@Slf4j
+public class HotelSearchExecutor implements DisposableBean {
+
+    private static final int PARTITIONS_PER_THREAD = 4;
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+
+    private final int parallelism;
+    private final int parallelThreshold;
+    private final long deadlineMillis;
+    private final ExecutorService executorService;
+
+    @Autowired
+    public HotelSearchExecutor(@Value("${room.search.parallelism:0}") int parallelism,
+                               @Value("${room.search.parallel-threshold:64}") int parallelThreshold,
+                               @Value("${room.search.deadline-millis:2000}") long deadlineMillis) {
+        this(parallelism, parallelThreshold, deadlineMillis, 0);
+    }
+
+    HotelSearchExecutor(int parallelism, int parallelThreshold, long deadlineMillis, int queueCapacity) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.parallelThreshold = parallelThreshold;
+        this.deadlineMillis = deadlineMillis;
+        int capacity = queueCapacity > 0 ? queueCapacity : this.parallelism * QUEUE_CAPACITY_PER_THREAD;
+        this.executorService = new ThreadPoolExecutor(this.parallelism, this.parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), new SearchThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * This method applies the evaluator to every hotel and returns the results in the order of the hotels.
+     *
+     * @param hotelIds  hotelIds
+     * @param evaluator per hotel evaluation
+     * @param <R>       result type
+     * @return result list in hotel order
+     */
+    public <R> List<R> evaluate(List<String> hotelIds, Function<String, R> evaluator) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        if (hotelIds.size() < parallelThreshold || parallelism == 1) {
+            return evaluatePartition(hotelIds, evaluator, deadlineNanos);
+        }
+        int partitionCount = Math.min(parallelism * PARTITIONS_PER_THREAD, hotelIds.size());
+        int partitionSize = (hotelIds.size() + partitionCount - 1) / partitionCount;
+        List<Future<List<R>>> futures = new ArrayList<>(partitionCount);
+        try {
+            for (int from = 0; from < hotelIds.size(); from += partitionSize) {
+                List<String> partition = hotelIds.subList(from, Math.min(from + partitionSize, hotelIds.size()));
+                futures.add(executorService.submit(() -> evaluatePartition(partition, evaluator, deadlineNanos)));
+            }
+            List<R> results = new ArrayList<>(hotelIds.size());
+            for (Future<List<R>> future : futures) {
+                results.addAll(getResult(future, deadlineNanos));
+            }
+            return results;
+        } catch (RejectedExecutionException e) {
+            log.error("Searching hotels was rejected, the search queue is full.");
+            throw new RoomServiceException("Searching hotels was rejected, the search queue is full.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RoomServiceException("Searching hotels was interrupted.", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * This method waits for the result of a partition until the deadline of the search.
+     *
+     * @param future        future
+     * @param deadlineNanos deadline of the search in System.nanoTime
+     * @param <R>           result type
+     * @return result list of the partition
+     * @throws InterruptedException when the thread is interrupted
+     */
+    private <R> List<R> getResult(Future<List<R>> future, long deadlineNanos) throws InterruptedException {
+        try {
+            return future.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw deadlineExceeded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RoomServiceException("Searching hotels was failed.", e.getCause());
+        }
+    }
+
+    /**
+     * This method applies the evaluator to the hotels of a partition. The partition stops before the next hotel
+     * once the search deadline has passed or its thread was interrupted by the cancellation of the search.
+     *
+     * @param hotelIds      hotelIds of the partition
+     * @param evaluator     per hotel evaluation
+     * @param deadlineNanos deadline of the search in System.nanoTime
+     * @param <R>           result type
+     * @return result list in hotel order
+     */
+    private <R> List<R> evaluatePartition(List<String> hotelIds, Function<String, R> evaluator, long deadlineNanos) {
+        List<R> results = new ArrayList<>(hotelIds.size());
+        for (String hotelId : hotelIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RoomServiceException("Searching hotels was interrupted.");
+            }
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw deadlineExceeded();
+            }
+            results.add(evaluator.apply(hotelId));
+        }
+        return results;
+    }
+
+    private RoomServiceException deadlineExceeded() {
+        log.error("Searching hotels exceeded the deadline of {} ms.", deadlineMillis);
+        return new RoomServiceException("Searching hotels exceeded the deadline of " + deadlineMillis + " ms.");
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Creates named daemon threads for the search executor.
+     */
+    private static class SearchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "hotel-search-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hilltop.search;
+
+import com.hilltop.model.HotelRoomSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable summary of the rooms of a hotel by pax count.
+ * Built from the hotel room summary rows of the hotel, so a search can tell whether the hotel hosts a pax count
+ * and from which cost without loading its rooms.
+ */
+public final class HotelSummary {
+
+    private final String hotelId;
+    private final int[] paxCounts;
+    private final int[] roomCounts;
+    private final long[] minCosts;
+
+    private HotelSummary(String hotelId, List<HotelRoomSummary> buckets) {
+        this.hotelId = hotelId;
+        this.paxCounts = new int[buckets.size()];
+        this.roomCounts = new int[buckets.size()];
+        this.minCosts = new long[buckets.size()];
+        for (int bucket = 0; bucket < buckets.size(); bucket++) {
+            paxCounts[bucket] = buckets.get(bucket).getPaxCount();
+            roomCounts[bucket] = buckets.get(bucket).getRoomCount();
+            minCosts[bucket] = buckets.get(bucket).getMinCostMinorUnits();
+        }
+    }
+
+    /**
+     * This method creates the summary of a hotel from its pax count buckets.
+     *
+     * @param hotelId hotelId
+     * @param buckets hotel room summaries of the hotel
+     * @return hotelSummary
+     */
+    public static HotelSummary of(String hotelId, Collection<HotelRoomSummary> buckets) {
+        List<HotelRoomSummary> sortedBuckets = new ArrayList<>(buckets);
+        sortedBuckets.sort(Comparator.comparingInt(HotelRoomSummary::getPaxCount));
+        return new HotelSummary(hotelId, sortedBuckets);
+    }
+
+    public String getHotelId() {
+        return hotelId;
+    }
+
+    /**
+     * This method returns the distinct pax counts of the rooms in ascending order.
+     *
+     * @return pax counts
+     */
+    public int[] getPaxCounts() {
+        return paxCounts.clone();
+    }
+
+    /**
+     * This method returns the room count of a pax count bucket.
+     *
+     * @param bucket index of the pax count in getPaxCounts
+     * @return room count
+     */
+    public int getRoomCount(int bucket) {
+        return roomCounts[bucket];
+    }
+
+    /**
+     * This method returns the cheapest cost per night of a pax count bucket in minor units.
+     *
+     * @param bucket index of the pax count in getPaxCounts
+     * @return min cost
+     */
+    public long getMinCostMinorUnits(int bucket) {
+        return minCosts[bucket];
+    }
+
+    /**
+     * This method returns the index of the bucket of a pax count.
+     *
+     * @param paxCount paxCount
+     * @return bucket index or a negative value when the hotel has no room for the pax count
+     */
+    public int findBucket(int paxCount) {
+        return Arrays.binarySearch(paxCounts, paxCount);
+    }
+
+    /**
+     * This method returns the pax count of the largest room.
+     *
+     * @return max room pax count or 0 for a hotel without rooms
+     */
+    public int getMaxRoomPaxCount() {
+        return paxCounts.length == 0 ? 0 : paxCounts[paxCounts.length - 1];
+    }
+
+    /**
+     * This method returns the pax count of all rooms together.
+     *
+     * @return total pax capacity
+     */
+    public long getTotalPaxCapacity() {
+        long totalPaxCapacity = 0;
+        for (int bucket = 0; bucket < paxCounts.length; bucket++) {
+            totalPaxCapacity += (long) paxCounts[bucket] * roomCounts[bucket];
+        }
+        return totalPaxCapacity;
+    }
+}
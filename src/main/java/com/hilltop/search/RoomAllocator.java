@@ -0,0 +1,241 @@
+package com.hilltop.search;
+
+import com.hilltop.model.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Multi room allocator.
+ * Finds the combination of rooms that hosts the pax count with the minimum overflow, using a bounded knapsack
+ * over the pax count buckets of a hotel. Ties are broken by the number of rooms and then by the total cost.
+ * A search takes at most as many rooms as the pax count, since every room hosts at least one pax, and at most the
+ * configured max rooms per combination. The default cap keeps the combinations of up to 127 rooms that the greedy
+ * combiner used to find.
+ */
+@Component
+public class RoomAllocator {
+
+    private static final double NO_COMBINATION = Double.POSITIVE_INFINITY;
+
+    private final int maxRoomsPerCombination;
+
+    public RoomAllocator(@Value("${room.search.max-rooms-per-combination:127}") int maxRoomsPerCombination) {
+        if (maxRoomsPerCombination < 1 || maxRoomsPerCombination > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Max rooms per combination should be between 1 and " + Byte.MAX_VALUE);
+        }
+        this.maxRoomsPerCombination = maxRoomsPerCombination;
+    }
+
+    /**
+     * This method returns the best combination of rooms for the pax count.
+     * Eg: PaxCount = 6 with rooms 4, 3 and 3 ; Then the rooms with pax count 3 and 3 are returned.
+     *
+     * @param roomPaxIndex roomPaxIndex
+     * @param paxCount     paxCount
+     * @return Room List in descending pax count order or empty list when the pax count can not be hosted
+     */
+    public List<Room> allocate(RoomPaxIndex roomPaxIndex, int paxCount) {
+        int[] paxCounts = roomPaxIndex.getPaxCounts();
+        if (paxCount <= 0 || paxCounts.length == 0) {
+            return Collections.emptyList();
+        }
+        int largestPaxCount = paxCounts[paxCounts.length - 1];
+        int roomLimit = getRoomLimit(paxCount);
+        if (largestPaxCount <= 0 || (long) largestPaxCount * roomLimit < paxCount) {
+            return Collections.emptyList();
+        }
+        int capacityLimit = Math.min(paxCount + largestPaxCount - 1, largestPaxCount * roomLimit);
+
+        double[][] costs = new double[roomLimit + 1][capacityLimit + 1];
+        for (double[] row : costs) {
+            Arrays.fill(row, NO_COMBINATION);
+        }
+        costs[0][0] = 0;
+        byte[][][] choices = new byte[paxCounts.length][][];
+
+        for (int bucket = 0; bucket < paxCounts.length; bucket++) {
+            int bucketPaxCount = paxCounts[bucket];
+            if (bucketPaxCount <= 0) {
+                continue;
+            }
+            List<Room> rooms = roomPaxIndex.getRoomsByCost(bucket);
+            int takeLimit = Math.min(rooms.size(), roomLimit);
+            double[] prefixCosts = new double[takeLimit + 1];
+            for (int take = 1; take <= takeLimit; take++) {
+                prefixCosts[take] = prefixCosts[take - 1] + costOf(rooms.get(take - 1));
+            }
+            double[][] nextCosts = new double[roomLimit + 1][];
+            byte[][] bucketChoices = new byte[roomLimit + 1][capacityLimit + 1];
+            for (int roomCount = 0; roomCount <= roomLimit; roomCount++) {
+                nextCosts[roomCount] = costs[roomCount].clone();
+            }
+            for (int roomCount = 0; roomCount < roomLimit; roomCount++) {
+                for (int capacity = 0; capacity <= capacityLimit; capacity++) {
+                    double cost = costs[roomCount][capacity];
+                    if (cost == NO_COMBINATION) {
+                        continue;
+                    }
+                    for (int take = 1; take <= takeLimit && roomCount + take <= roomLimit; take++) {
+                        int nextCapacity = capacity + take * bucketPaxCount;
+                        if (nextCapacity > capacityLimit) {
+                            break;
+                        }
+                        double nextCost = cost + prefixCosts[take];
+                        if (nextCost < nextCosts[roomCount + take][nextCapacity]) {
+                            nextCosts[roomCount + take][nextCapacity] = nextCost;
+                            bucketChoices[roomCount + take][nextCapacity] = (byte) take;
+                        }
+                    }
+                }
+            }
+            costs = nextCosts;
+            choices[bucket] = bucketChoices;
+        }
+        return findBestCombination(roomPaxIndex, paxCounts, costs, choices, paxCount, capacityLimit);
+    }
+
+    /**
+     * This method selects the combination with the minimum overflow, room count and cost and rebuilds its rooms.
+     *
+     * @param roomPaxIndex  roomPaxIndex
+     * @param paxCounts     pax counts of the buckets
+     * @param costs         minimum cost by room count and capacity
+     * @param choices       rooms taken from each bucket by room count and capacity
+     * @param paxCount      paxCount
+     * @param capacityLimit capacityLimit
+     * @return Room List
+     */
+    private List<Room> findBestCombination(RoomPaxIndex roomPaxIndex, int[] paxCounts, double[][] costs,
+                                           byte[][][] choices, int paxCount, int capacityLimit) {
+        for (int capacity = paxCount; capacity <= capacityLimit; capacity++) {
+            int bestRoomCount = -1;
+            for (int roomCount = 1; roomCount < costs.length; roomCount++) {
+                if (costs[roomCount][capacity] != NO_COMBINATION) {
+                    bestRoomCount = roomCount;
+                    break;
+                }
+            }
+            if (bestRoomCount > 0) {
+                return rebuildCombination(roomPaxIndex, paxCounts, choices, bestRoomCount, capacity);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * This method walks the bucket choices back from the selected state and collects the cheapest rooms taken
+     * from each bucket.
+     *
+     * @param roomPaxIndex roomPaxIndex
+     * @param paxCounts    pax counts of the buckets
+     * @param choices      rooms taken from each bucket by room count and capacity
+     * @param roomCount    room count of the selected combination
+     * @param capacity     capacity of the selected combination
+     * @return Room List
+     */
+    private List<Room> rebuildCombination(RoomPaxIndex roomPaxIndex, int[] paxCounts, byte[][][] choices,
+                                          int roomCount, int capacity) {
+        List<Room> searchRoomList = new ArrayList<>(roomCount);
+        for (int bucket = paxCounts.length - 1; bucket >= 0 && roomCount > 0; bucket--) {
+            if (choices[bucket] == null) {
+                continue;
+            }
+            int take = choices[bucket][roomCount][capacity];
+            searchRoomList.addAll(roomPaxIndex.getRoomsByCost(bucket).subList(0, take));
+            roomCount -= take;
+            capacity -= take * paxCounts[bucket];
+        }
+        return searchRoomList;
+    }
+
+    /**
+     * This method returns the cheapest cost per night at which a hotel hosts the pax count, following the search
+     * without loading the rooms: rooms for the exact pax count, then rooms for one extra pax and otherwise the
+     * combination with the minimum overflow and room count. Every room of a combination is priced at the cheapest
+     * cost of its pax count, so the cost of a combination is a lower bound of the combination found by allocate.
+     *
+     * @param hotelSummary hotelSummary
+     * @param paxCount     paxCount
+     * @return cheapest cost per night in minor units or empty when the pax count can not be hosted
+     */
+    public OptionalLong findFromCost(HotelSummary hotelSummary, int paxCount) {
+        int exactBucket = hotelSummary.findBucket(paxCount);
+        if (exactBucket >= 0) {
+            return OptionalLong.of(hotelSummary.getMinCostMinorUnits(exactBucket));
+        }
+        int extraBucket = hotelSummary.findBucket(paxCount + 1);
+        if (extraBucket >= 0) {
+            return OptionalLong.of(hotelSummary.getMinCostMinorUnits(extraBucket));
+        }
+        int largestPaxCount = hotelSummary.getMaxRoomPaxCount();
+        if (paxCount <= 0 || largestPaxCount <= 0) {
+            return OptionalLong.empty();
+        }
+        int roomLimit = getRoomLimit(paxCount);
+        if ((long) largestPaxCount * roomLimit < paxCount) {
+            return OptionalLong.empty();
+        }
+        int capacityLimit = Math.min(paxCount + largestPaxCount - 1, largestPaxCount * roomLimit);
+        long[][] costs = new long[roomLimit + 1][capacityLimit + 1];
+        for (long[] row : costs) {
+            Arrays.fill(row, Long.MAX_VALUE);
+        }
+        costs[0][0] = 0;
+        int[] paxCounts = hotelSummary.getPaxCounts();
+        for (int bucket = 0; bucket < paxCounts.length; bucket++) {
+            if (paxCounts[bucket] <= 0) {
+                continue;
+            }
+            int takeLimit = Math.min(hotelSummary.getRoomCount(bucket), roomLimit);
+            long[][] nextCosts = new long[roomLimit + 1][];
+            for (int roomCount = 0; roomCount <= roomLimit; roomCount++) {
+                nextCosts[roomCount] = costs[roomCount].clone();
+            }
+            for (int roomCount = 0; roomCount < roomLimit; roomCount++) {
+                for (int capacity = 0; capacity <= capacityLimit; capacity++) {
+                    if (costs[roomCount][capacity] == Long.MAX_VALUE) {
+                        continue;
+                    }
+                    for (int take = 1; take <= takeLimit && roomCount + take <= roomLimit; take++) {
+                        int nextCapacity = capacity + take * paxCounts[bucket];
+                        if (nextCapacity > capacityLimit) {
+                            break;
+                        }
+                        long nextCost = costs[roomCount][capacity] + take * hotelSummary.getMinCostMinorUnits(bucket);
+                        nextCosts[roomCount + take][nextCapacity] = Math.min(nextCosts[roomCount + take][nextCapacity],
+                                nextCost);
+                    }
+                }
+            }
+            costs = nextCosts;
+        }
+        for (int capacity = paxCount; capacity <= capacityLimit; capacity++) {
+            for (int roomCount = 1; roomCount <= roomLimit; roomCount++) {
+                if (costs[roomCount][capacity] != Long.MAX_VALUE) {
+                    return OptionalLong.of(costs[roomCount][capacity]);
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * This method returns the most rooms a combination for the pax count takes.
+     *
+     * @param paxCount paxCount
+     * @return room limit
+     */
+    private int getRoomLimit(int paxCount) {
+        return Math.min(maxRoomsPerCombination, paxCount);
+    }
+
+    private double costOf(Room room) {
+        return room.getCostMinorUnits();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hilltop.search;
+
+import com.hilltop.model.Room;
+
+import java.util.*;
+
+/**
+ * Immutable index of the rooms of a hotel bucketed by pax count.
+ * Pax counts are kept in a sorted int array so exact and extra pax lookups are binary searches instead of
+ * repeated passes over the room list, and each bucket is pre-sorted by cost for the room allocator.
+ */
+public final class RoomPaxIndex {
+
+    private static final RoomPaxIndex EMPTY = new RoomPaxIndex(Collections.emptyList());
+
+    private final List<Room> rooms;
+    private final int[] paxCounts;
+    private final List<List<Room>> buckets;
+    private final List<List<Room>> bucketsByCost;
+
+    private RoomPaxIndex(Collection<Room> rooms) {
+        this.rooms = Collections.unmodifiableList(new ArrayList<>(rooms));
+        Map<Integer, List<Room>> roomsByPaxCount = new TreeMap<>();
+        for (Room room : this.rooms) {
+            roomsByPaxCount.computeIfAbsent(room.getPaxCount(), paxCount -> new ArrayList<>()).add(room);
+        }
+        this.paxCounts = new int[roomsByPaxCount.size()];
+        this.buckets = new ArrayList<>(roomsByPaxCount.size());
+        this.bucketsByCost = new ArrayList<>(roomsByPaxCount.size());
+        int index = 0;
+        for (Map.Entry<Integer, List<Room>> entry : roomsByPaxCount.entrySet()) {
+            paxCounts[index++] = entry.getKey();
+            buckets.add(Collections.unmodifiableList(entry.getValue()));
+            List<Room> roomsByCost = new ArrayList<>(entry.getValue());
+            roomsByCost.sort(Comparator.comparingLong(Room::getCostMinorUnits));
+            bucketsByCost.add(Collections.unmodifiableList(roomsByCost));
+        }
+    }
+
+    /**
+     * This method creates the index for the given rooms. Rooms with the same pax count keep the iteration order.
+     *
+     * @param rooms rooms
+     * @return roomPaxIndex
+     */
+    public static RoomPaxIndex of(Collection<Room> rooms) {
+        return rooms.isEmpty() ? EMPTY : new RoomPaxIndex(rooms);
+    }
+
+    /**
+     * This method returns all indexed rooms in the original order.
+     *
+     * @return Room List
+     */
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    /**
+     * This method returns the rooms for the exact pax count.
+     *
+     * @param paxCount paxCount
+     * @return Room List
+     */
+    public List<Room> findByPaxCount(int paxCount) {
+        int index = Arrays.binarySearch(paxCounts, paxCount);
+        return index < 0 ? Collections.emptyList() : buckets.get(index);
+    }
+
+    /**
+     * This method returns the distinct pax counts of the rooms in ascending order.
+     *
+     * @return pax counts
+     */
+    int[] getPaxCounts() {
+        return paxCounts;
+    }
+
+    /**
+     * This method returns the rooms of a pax count bucket ordered by cost, cheapest first.
+     *
+     * @param bucket index of the pax count in getPaxCounts
+     * @return Room List
+     */
+    List<Room> getRoomsByCost(int bucket) {
+        return bucketsByCost.get(bucket);
+    }
+}
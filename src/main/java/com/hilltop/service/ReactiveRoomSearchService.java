@@ -0,0 +1,135 @@
+package com.hilltop.service;
+
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.response.RoomSearchResponseDto;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.metrics.RoomSearchMetrics;
+import com.hilltop.model.Room;
+import com.hilltop.pricing.StayPricer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Non blocking execution of the room search.
+ * The hotels of a search are split into chunks which are searched and priced concurrently on a bounded scheduler,
+ * so the blocking repository calls never run on a request thread. At most concurrency chunks of a search are in
+ * flight and completed chunks are emitted in the order of the hotel ids, so a slow subscriber holds back the
+ * search of the remaining chunks.
+ */
+@Service
+public class ReactiveRoomSearchService implements DisposableBean {
+
+    private static final int QUEUED_TASKS_PER_THREAD = 64;
+    private final RoomService roomService;
+    private final RoomRateService roomRateService;
+    private final RoomSearchMetrics roomSearchMetrics;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Scheduler scheduler;
+
+    public ReactiveRoomSearchService(RoomService roomService, RoomRateService roomRateService,
+                                     RoomSearchMetrics roomSearchMetrics,
+                                     @Value("${room.search.reactive.chunk-size:50}") int chunkSize,
+                                     @Value("${room.search.reactive.concurrency:4}") int concurrency,
+                                     @Value("${room.search.reactive.threads:8}") int threads) {
+        this.roomService = roomService;
+        this.roomRateService = roomRateService;
+        this.roomSearchMetrics = roomSearchMetrics;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.scheduler = Schedulers.newBoundedElastic(threads, threads * QUEUED_TASKS_PER_THREAD,
+                "reactive-room-search", 60, true);
+    }
+
+    /**
+     * This method used to search rooms by pax count and hotel ids which are free for the stay.
+     * Emits the priced search result of every hotel with rooms in the order of the hotel ids. The cost of a room
+     * is the total of its nights including rate overrides when the stay has dates, otherwise the cost per night
+     * times the days.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   hotelIds
+     * @param days       days, used when no stay dates are given
+     * @param stayNights stayNights or null to search without dates
+     * @return roomSearchResponseDto flux
+     */
+    public Flux<RoomSearchResponseDto> searchRooms(int paxCount, List<String> hotelIds, Integer days,
+                                                   StayNights stayNights) {
+        return Flux.defer(() -> {
+            List<String> distinctHotelIds = new ArrayList<>(new LinkedHashSet<>(hotelIds));
+            LongAdder roomCount = new LongAdder();
+            return Flux.fromIterable(getChunks(distinctHotelIds))
+                    .flatMapSequential(chunk -> Mono.fromCallable(() ->
+                                    searchChunk(paxCount, chunk, days, stayNights, roomCount))
+                            .subscribeOn(scheduler), concurrency, 1)
+                    .flatMapIterable(roomSearchResponseDtoList -> roomSearchResponseDtoList, 1)
+                    .doOnComplete(() -> roomSearchMetrics.recordSearch(distinctHotelIds.size(), roomCount.sum()));
+        }).onErrorMap(RejectedExecutionException.class,
+                e -> new RoomServiceException("Reactive room search queue is full.", e));
+    }
+
+    /**
+     * This method used to search and price the rooms of one chunk of hotels.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   distinct hotelIds of the chunk
+     * @param days       days
+     * @param stayNights stayNights or null to search without dates
+     * @param roomCount  rooms evaluated by the search
+     * @return roomSearchResponseDto list of the hotels with rooms
+     */
+    private List<RoomSearchResponseDto> searchChunk(int paxCount, List<String> hotelIds, Integer days,
+                                                    StayNights stayNights, LongAdder roomCount) {
+        Map<String, List<Room>> roomsByHotelId = new LinkedHashMap<>();
+        roomCount.add(roomService.searchRoomsForPaxCountAndHotelChunk(paxCount, hotelIds, stayNights,
+                roomsByHotelId::putAll));
+        if (roomsByHotelId.isEmpty()) {
+            return List.of();
+        }
+        StayPricer stayPricer = getStayPricer(roomsByHotelId, days, stayNights);
+        List<RoomSearchResponseDto> roomSearchResponseDtoList = new ArrayList<>(roomsByHotelId.size());
+        roomsByHotelId.forEach((hotelId, rooms) ->
+                roomSearchResponseDtoList.add(new RoomSearchResponseDto(hotelId, rooms, stayPricer)));
+        return roomSearchResponseDtoList;
+    }
+
+    /**
+     * This method creates the pricer of the searched rooms of a chunk. Rate overrides are loaded in one query for
+     * all rooms of the chunk when the stay has dates.
+     *
+     * @param roomsByHotelId hotel id vs room list map
+     * @param days           days
+     * @param stayNights     stayNights or null when no dates are given
+     * @return stayPricer
+     */
+    private StayPricer getStayPricer(Map<String, List<Room>> roomsByHotelId, Integer days, StayNights stayNights) {
+        if (stayNights == null) {
+            return StayPricer.ofDays(days);
+        }
+        List<Room> rooms = new ArrayList<>();
+        roomsByHotelId.values().forEach(rooms::addAll);
+        return StayPricer.of(stayNights, roomRateService.getNightlyRates(rooms, stayNights));
+    }
+
+    private List<List<String>> getChunks(List<String> hotelIds) {
+        List<List<String>> chunks = new ArrayList<>((hotelIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < hotelIds.size(); from += chunkSize) {
+            chunks.add(hotelIds.subList(from, Math.min(from + chunkSize, hotelIds.size())));
+        }
+        return chunks;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,153 @@
+package com.hilltop.service;
+
+import com.hilltop.cache.RoomSearchResultCache;
+import com.hilltop.domain.StayNights;
+import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.RoomNotAvailableException;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.model.RoomOccupancy;
+import com.hilltop.repository.RoomOccupancyRepository;
+import com.hilltop.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the occupied nights of rooms as one bitmap per room and year.
+ * Occupancy rows are versioned, so concurrent changes of the same room year are rejected instead of overwritten.
+ * Cached search results of the room's hotel are invalidated on every occupancy change.
+ */
+@Service
+@Slf4j
+public class RoomAvailabilityService {
+
+    private static final String ERROR_MESSAGE = " from database was failed.";
+    private static final int ROOM_ID_BATCH_SIZE = 1000;
+    private final RoomRepository roomRepository;
+    private final RoomOccupancyRepository roomOccupancyRepository;
+    private final RoomSearchResultCache roomSearchResultCache;
+
+    public RoomAvailabilityService(RoomRepository roomRepository, RoomOccupancyRepository roomOccupancyRepository,
+                                   RoomSearchResultCache roomSearchResultCache) {
+        this.roomRepository = roomRepository;
+        this.roomOccupancyRepository = roomOccupancyRepository;
+        this.roomSearchResultCache = roomSearchResultCache;
+    }
+
+    /**
+     * This method used to occupy the nights of a stay in a room.
+     *
+     * @param roomId     roomId
+     * @param stayNights stayNights
+     */
+    public void occupyRoom(String roomId, StayNights stayNights) {
+        try {
+            String hotelId = getHotelId(roomId);
+            List<RoomOccupancy> roomOccupancies = getRoomOccupancies(roomId, stayNights);
+            for (RoomOccupancy roomOccupancy : roomOccupancies) {
+                if (stayNights.overlaps(roomOccupancy)) {
+                    log.error("Room id: {} is not available from {} to {}.", roomId, stayNights.getCheckIn(),
+                            stayNights.getCheckOut());
+                    throw new RoomNotAvailableException("Room " + roomId + " is not available for the stay.");
+                }
+                BitSet occupiedNights = roomOccupancy.getOccupiedNights();
+                occupiedNights.or(stayNights.getNights(roomOccupancy.getYear()));
+                roomOccupancy.setOccupiedNights(occupiedNights);
+            }
+            roomOccupancyRepository.saveAllAndFlush(roomOccupancies);
+            roomSearchResultCache.invalidate(hotelId);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            throw new RoomNotAvailableException("Occupancy of room " + roomId + " was changed concurrently.");
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Occupying room by id " + roomId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to release the nights of a stay in a room.
+     *
+     * @param roomId     roomId
+     * @param stayNights stayNights
+     */
+    public void releaseRoom(String roomId, StayNights stayNights) {
+        try {
+            String hotelId = getHotelId(roomId);
+            List<RoomOccupancy> roomOccupancies = getRoomOccupancies(roomId, stayNights);
+            for (RoomOccupancy roomOccupancy : roomOccupancies) {
+                BitSet occupiedNights = roomOccupancy.getOccupiedNights();
+                occupiedNights.andNot(stayNights.getNights(roomOccupancy.getYear()));
+                roomOccupancy.setOccupiedNights(occupiedNights);
+            }
+            roomOccupancyRepository.saveAllAndFlush(roomOccupancies);
+            roomSearchResultCache.invalidate(hotelId);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            throw new RoomNotAvailableException("Occupancy of room " + roomId + " was changed concurrently.");
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Releasing room by id " + roomId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method finds the rooms which are occupied on any night of the stay.
+     * Only the occupancy rows of the years of the stay are loaded, in batches of ROOM_ID_BATCH_SIZE rooms, and
+     * each row is checked with a single bitmap intersection.
+     *
+     * @param roomIds    roomIds
+     * @param stayNights stayNights
+     * @return occupied room ids
+     */
+    public Set<String> findOccupiedRoomIds(Collection<String> roomIds, StayNights stayNights) {
+        try {
+            List<String> distinctRoomIds = new ArrayList<>(new LinkedHashSet<>(roomIds));
+            Set<String> occupiedRoomIds = new HashSet<>();
+            for (int from = 0; from < distinctRoomIds.size(); from += ROOM_ID_BATCH_SIZE) {
+                List<String> batch = distinctRoomIds.subList(from,
+                        Math.min(from + ROOM_ID_BATCH_SIZE, distinctRoomIds.size()));
+                for (RoomOccupancy roomOccupancy :
+                        roomOccupancyRepository.findByRoomIdInAndYearIn(batch, stayNights.getYears())) {
+                    if (stayNights.overlaps(roomOccupancy)) {
+                        occupiedRoomIds.add(roomOccupancy.getRoomId());
+                    }
+                }
+            }
+            return occupiedRoomIds;
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room occupancy" + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method returns the hotel id of the room.
+     *
+     * @param roomId roomId
+     * @return hotelId
+     */
+    private String getHotelId(String roomId) {
+        return roomRepository.findHotelIdById(roomId).orElseThrow(() -> {
+            log.error("Error getting room by id: {}.", roomId);
+            return new InvalidRoomException("No room found for id: " + roomId);
+        });
+    }
+
+    /**
+     * This method returns the occupancy of the room for every year of the stay, new ones for years without nights.
+     *
+     * @param roomId     roomId
+     * @param stayNights stayNights
+     * @return RoomOccupancy List in year order
+     */
+    private List<RoomOccupancy> getRoomOccupancies(String roomId, StayNights stayNights) {
+        Map<Integer, RoomOccupancy> roomOccupancyByYear = roomOccupancyRepository
+                .findByRoomIdInAndYearIn(Collections.singletonList(roomId), stayNights.getYears()).stream()
+                .collect(Collectors.toMap(RoomOccupancy::getYear, Function.identity()));
+        return stayNights.getYears().stream()
+                .map(year -> roomOccupancyByYear.getOrDefault(year, new RoomOccupancy(roomId, year)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,120 @@
+package com.hilltop.service;
+
+import com.hilltop.domain.StayNights;
+import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomRateOverride;
+import com.hilltop.pricing.NightlyRates;
+import com.hilltop.pricing.RoomPricing;
+import com.hilltop.repository.RoomRateOverrideRepository;
+import com.hilltop.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the per night price overrides of rooms and turns them into nightly rates for pricing stays.
+ */
+@Service
+@Slf4j
+public class RoomRateService {
+
+    private static final String ERROR_MESSAGE = " from database was failed.";
+    private static final int ROOM_ID_BATCH_SIZE = 1000;
+    private final RoomRepository roomRepository;
+    private final RoomRateOverrideRepository roomRateOverrideRepository;
+
+    public RoomRateService(RoomRepository roomRepository, RoomRateOverrideRepository roomRateOverrideRepository) {
+        this.roomRepository = roomRepository;
+        this.roomRateOverrideRepository = roomRateOverrideRepository;
+    }
+
+    /**
+     * This method used to override the price per night of a room for the nights of the stay.
+     * Existing overrides of the nights are replaced.
+     *
+     * @param roomId        roomId
+     * @param stayNights    stayNights
+     * @param pricePerNight pricePerNight
+     */
+    @Transactional
+    public void setRateOverride(String roomId, StayNights stayNights, BigDecimal pricePerNight) {
+        try {
+            checkRoomExists(roomId);
+            long pricePerNightMinorUnits = RoomPricing.toMinorUnits(pricePerNight);
+            roomRateOverrideRepository.deleteByRoomIdAndNights(roomId, stayNights.getCheckIn(),
+                    stayNights.getCheckOut());
+            List<RoomRateOverride> roomRateOverrides = stayNights.getCheckIn().datesUntil(stayNights.getCheckOut())
+                    .map(night -> new RoomRateOverride(roomId, night, pricePerNightMinorUnits))
+                    .collect(Collectors.toList());
+            roomRateOverrideRepository.saveAllAndFlush(roomRateOverrides);
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Saving rate override of room id " + roomId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to remove the price per night overrides of a room for the nights of the stay.
+     *
+     * @param roomId     roomId
+     * @param stayNights stayNights
+     */
+    @Transactional
+    public void removeRateOverrides(String roomId, StayNights stayNights) {
+        try {
+            checkRoomExists(roomId);
+            roomRateOverrideRepository.deleteByRoomIdAndNights(roomId, stayNights.getCheckIn(),
+                    stayNights.getCheckOut());
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Removing rate overrides of room id " + roomId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method finds the nightly rates of the rooms with overrides in the stay.
+     * Overrides are loaded in batches of ROOM_ID_BATCH_SIZE rooms and the markup of the room type is applied once
+     * per overridden night.
+     *
+     * @param rooms      rooms
+     * @param stayNights stayNights
+     * @return room id vs nightly rates of the rooms with overrides in the stay
+     */
+    public Map<String, NightlyRates> getNightlyRates(Collection<Room> rooms, StayNights stayNights) {
+        try {
+            Map<String, Room> roomsById = new LinkedHashMap<>();
+            rooms.forEach(room -> roomsById.put(room.getId(), room));
+            List<String> roomIds = new ArrayList<>(roomsById.keySet());
+            Map<String, Map<LocalDate, Long>> costsByRoomId = new HashMap<>();
+            for (int from = 0; from < roomIds.size(); from += ROOM_ID_BATCH_SIZE) {
+                List<String> batch = roomIds.subList(from, Math.min(from + ROOM_ID_BATCH_SIZE, roomIds.size()));
+                for (RoomRateOverride roomRateOverride : roomRateOverrideRepository.findByRoomIdInAndNights(batch,
+                        stayNights.getCheckIn(), stayNights.getCheckOut())) {
+                    Room room = roomsById.get(roomRateOverride.getRoomId());
+                    costsByRoomId.computeIfAbsent(room.getId(), id -> new HashMap<>())
+                            .put(roomRateOverride.getNight(), RoomPricing.applyMarkup(
+                                    roomRateOverride.getPricePerNightMinorUnits(),
+                                    room.getRoomType().getMarkupBasisPoints()));
+                }
+            }
+            Map<String, NightlyRates> nightlyRatesByRoomId = new HashMap<>();
+            costsByRoomId.forEach((roomId, costs) -> nightlyRatesByRoomId.put(roomId, NightlyRates.of(costs)));
+            return nightlyRatesByRoomId;
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room rate overrides" + ERROR_MESSAGE, e);
+        }
+    }
+
+    private void checkRoomExists(String roomId) {
+        if (!roomRepository.existsById(roomId)) {
+            log.error("Error getting room by id: {}.", roomId);
+            throw new InvalidRoomException("No room found for id: " + roomId);
+        }
+    }
+}
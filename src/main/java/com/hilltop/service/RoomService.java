@@ -1,19 +1,49 @@
 package com.hilltop.service;
 
+import com.hilltop.cache.RoomInventoryCache;
+import com.hilltop.cache.RoomSearchResultCache;
+import com.hilltop.domain.RoomPageCursor;
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.request.BulkRoomRequestDto;
 import com.hilltop.domain.request.HotelIdRequestDto;
 import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.response.BulkRoomResponseDto;
+import com.hilltop.domain.response.BulkRoomResultDto;
+import com.hilltop.domain.response.HotelSummaryResponseDto;
 import com.hilltop.domain.response.RoomCreateResponseDto;
+import com.hilltop.enums.BulkRoomResultStatus;
+import com.hilltop.enums.ErrorResponseStatusType;
+import com.hilltop.exception.InvalidBulkRoomRequestException;
 import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.InvalidRoomTypeException;
 import com.hilltop.exception.RoomServiceException;
+import com.hilltop.metrics.RoomSearchMetrics;
+import com.hilltop.model.HotelRoomSummary;
+import com.hilltop.model.HotelRoomVersion;
 import com.hilltop.model.Room;
+import com.hilltop.model.RoomImageUrlView;
+import com.hilltop.model.RoomType;
+import com.hilltop.model.RoomView;
+import com.hilltop.pricing.RoomPricing;
+import com.hilltop.repository.HotelRoomSummaryRepository;
+import com.hilltop.repository.HotelRoomVersionRepository;
 import com.hilltop.repository.RoomRepository;
+import com.hilltop.search.HotelSearchExecutor;
+import com.hilltop.search.HotelSummary;
+import com.hilltop.search.RoomAllocator;
+import com.hilltop.search.RoomPaxIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,16 +51,48 @@ import java.util.stream.Collectors;
 public class RoomService {
 
     private static final String ERROR_MESSAGE = " from database was failed.";
+    private static final int HOTEL_ID_BATCH_SIZE = 500;
     private final RoomRepository roomRepository;
     private final RoomTypeService roomTypeService;
+    private final RoomInventoryCache roomInventoryCache;
+    private final RoomSearchResultCache roomSearchResultCache;
+    private final RoomAllocator roomAllocator;
+    private final HotelSearchExecutor hotelSearchExecutor;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final HotelRoomVersionRepository hotelRoomVersionRepository;
+    private final HotelRoomSummaryRepository hotelRoomSummaryRepository;
+    private final TransactionOperations transactionOperations;
+    private final RoomSearchMetrics roomSearchMetrics;
+    private final int bulkChunkSize;
+    private final int bulkMaxRows;
 
-    public RoomService(RoomRepository roomRepository, RoomTypeService roomTypeService) {
+    public RoomService(RoomRepository roomRepository, RoomTypeService roomTypeService,
+                       RoomInventoryCache roomInventoryCache, RoomSearchResultCache roomSearchResultCache,
+                       RoomAllocator roomAllocator,
+                       HotelSearchExecutor hotelSearchExecutor, RoomAvailabilityService roomAvailabilityService,
+                       HotelRoomVersionRepository hotelRoomVersionRepository,
+                       HotelRoomSummaryRepository hotelRoomSummaryRepository,
+                       TransactionOperations transactionOperations, RoomSearchMetrics roomSearchMetrics,
+                       @Value("${room.bulk.chunk-size:500}") int bulkChunkSize,
+                       @Value("${room.bulk.max-rows:10000}") int bulkMaxRows) {
         this.roomRepository = roomRepository;
         this.roomTypeService = roomTypeService;
+        this.roomInventoryCache = roomInventoryCache;
+        this.roomSearchResultCache = roomSearchResultCache;
+        this.roomAllocator = roomAllocator;
+        this.hotelSearchExecutor = hotelSearchExecutor;
+        this.roomAvailabilityService = roomAvailabilityService;
+        this.hotelRoomVersionRepository = hotelRoomVersionRepository;
+        this.hotelRoomSummaryRepository = hotelRoomSummaryRepository;
+        this.transactionOperations = transactionOperations;
+        this.roomSearchMetrics = roomSearchMetrics;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkMaxRows = bulkMaxRows;
     }
 
     /**
      * This method used to save a room.
+     * The room version of the hotel, the room and the summary of its pax count bucket are written in one transaction.
      *
      * @param roomCreateRequestDto roomCreateRequestDto
      * @return RoomCreateResponseDto
@@ -39,7 +101,12 @@ public class RoomService {
         var roomType = roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId());
         var room = new Room(roomCreateRequestDto, roomType);
         try {
-            roomRepository.save(room);
+            transactionOperations.executeWithoutResult(status -> {
+                incrementRoomVersions(Collections.singletonList(room.getHotelId()));
+                roomRepository.save(room);
+                refreshSummaryBuckets(Set.of(getSummaryBucket(room)));
+            });
+            invalidateCachedRooms(room.getHotelId());
             log.info("Successfully save room by id: {}", room.getId());
             return new RoomCreateResponseDto(room);
         } catch (DataAccessException e) {
@@ -47,6 +114,143 @@ public class RoomService {
         }
     }
 
+    /**
+     * This method used to create and update rooms in bulk.
+     * Rows are validated and their room types are resolved once per request. Valid rows are saved in chunks,
+     * each chunk in one transaction so hibernate sends the inserts and updates as jdbc batches.
+     * A failed row or chunk does not stop the remaining rows.
+     *
+     * @param bulkRoomRequestDtoList rows, rows with an id update the existing room
+     * @return result of each row in the order of the rows
+     */
+    public BulkRoomResponseDto saveRooms(List<BulkRoomRequestDto> bulkRoomRequestDtoList) {
+        if (bulkRoomRequestDtoList.size() > bulkMaxRows) {
+            throw new InvalidBulkRoomRequestException("Bulk room request exceeds the limit of " + bulkMaxRows + " rows.");
+        }
+        var results = new BulkRoomResultDto[bulkRoomRequestDtoList.size()];
+        Map<String, Optional<RoomType>> roomTypesById = new HashMap<>();
+        for (int from = 0; from < bulkRoomRequestDtoList.size(); from += bulkChunkSize) {
+            List<BulkRoomRequestDto> chunk = bulkRoomRequestDtoList.subList(from,
+                    Math.min(from + bulkChunkSize, bulkRoomRequestDtoList.size()));
+            saveRoomChunk(chunk, from, roomTypesById, results);
+        }
+        var bulkRoomResponseDto = new BulkRoomResponseDto(Arrays.asList(results));
+        log.info("Successfully processed bulk room request. created: {}, updated: {}, failed: {}",
+                bulkRoomResponseDto.getCreatedCount(), bulkRoomResponseDto.getUpdatedCount(),
+                bulkRoomResponseDto.getFailedCount());
+        return bulkRoomResponseDto;
+    }
+
+    /**
+     * This method returns the maximum number of rows of a bulk room request.
+     *
+     * @return bulk max rows
+     */
+    public int getBulkMaxRows() {
+        return bulkMaxRows;
+    }
+
+    /**
+     * This method used to validate and save a chunk of bulk rows.
+     *
+     * @param chunk         rows of the chunk
+     * @param offset        index of the first row of the chunk in the request
+     * @param roomTypesById room types resolved for the request
+     * @param results       results of the request
+     */
+    private void saveRoomChunk(List<BulkRoomRequestDto> chunk, int offset,
+                               Map<String, Optional<RoomType>> roomTypesById, BulkRoomResultDto[] results) {
+        Map<String, Room> existingRooms;
+        try {
+            existingRooms = findExistingRooms(chunk);
+        } catch (DataAccessException e) {
+            log.error("Getting existing rooms of bulk room chunk from row {} was failed.", offset, e);
+            for (int i = 0; i < chunk.size(); i++) {
+                var row = chunk.get(i);
+                results[offset + i] = BulkRoomResultDto.failed(offset + i, row == null ? null : row.getId(),
+                        ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getMessage());
+            }
+            return;
+        }
+        List<Room> rooms = new ArrayList<>(chunk.size());
+        List<BulkRoomResultDto> savedResults = new ArrayList<>(chunk.size());
+        Set<String> hotelIds = new HashSet<>();
+        Set<HotelRoomSummary.HotelRoomSummaryId> summaryBuckets = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            var row = chunk.get(i);
+            int index = offset + i;
+            var id = row == null ? null : row.getId();
+            if (row == null || !row.isRequiredAvailable()) {
+                results[index] = BulkRoomResultDto.failed(index, id, ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getMessage());
+                continue;
+            }
+            var roomType = roomTypesById.computeIfAbsent(row.getRoomTypeId(), this::findRoomType);
+            if (roomType.isEmpty()) {
+                results[index] = BulkRoomResultDto.failed(index, id, ErrorResponseStatusType.INVALID_ROOM_TYPE.getMessage());
+                continue;
+            }
+            Room room;
+            BulkRoomResultStatus status;
+            if (id == null) {
+                room = new Room(row, roomType.get());
+                status = BulkRoomResultStatus.CREATED;
+            } else {
+                room = existingRooms.get(id);
+                if (room == null) {
+                    results[index] = BulkRoomResultDto.failed(index, id, ErrorResponseStatusType.INVALID_ROOM_ID.getMessage());
+                    continue;
+                }
+                hotelIds.add(room.getHotelId());
+                summaryBuckets.add(getSummaryBucket(room));
+                room.update(row, roomType.get());
+                status = BulkRoomResultStatus.UPDATED;
+            }
+            hotelIds.add(room.getHotelId());
+            summaryBuckets.add(getSummaryBucket(room));
+            rooms.add(room);
+            results[index] = new BulkRoomResultDto(index, room.getId(), status, null);
+            savedResults.add(results[index]);
+        }
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                incrementRoomVersions(hotelIds);
+                roomRepository.saveAll(rooms);
+                refreshSummaryBuckets(summaryBuckets);
+            });
+        } catch (DataAccessException e) {
+            log.error("Saving bulk room chunk from row {} into database was failed.", offset, e);
+            savedResults.forEach(result -> {
+                result.setStatus(BulkRoomResultStatus.FAILED);
+                result.setMessage(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getMessage());
+            });
+        } finally {
+            hotelIds.forEach(this::invalidateCachedRooms);
+        }
+    }
+
+    /**
+     * This method used to get the existing rooms of the update rows of a chunk.
+     *
+     * @param chunk rows of the chunk
+     * @return room id vs room map
+     */
+    private Map<String, Room> findExistingRooms(List<BulkRoomRequestDto> chunk) {
+        Set<String> roomIds = chunk.stream().filter(Objects::nonNull).map(BulkRoomRequestDto::getId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        if (roomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return roomRepository.findAllById(roomIds).stream().collect(Collectors.toMap(Room::getId, room -> room));
+    }
+
+    private Optional<RoomType> findRoomType(String roomTypeId) {
+        try {
+            return Optional.of(roomTypeService.getRoomType(roomTypeId));
+        } catch (InvalidRoomTypeException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * This method used to get room by id.
      *
@@ -55,7 +259,7 @@ public class RoomService {
      */
     public Room getRoom(String roomId) {
         try {
-            Optional<Room> roomOptional = roomRepository.findById(roomId);
+            Optional<Room> roomOptional = roomRepository.findWithDetailsById(roomId);
             if (roomOptional.isPresent()) {
                 return roomOptional.get();
             } else {
@@ -67,30 +271,164 @@ public class RoomService {
         }
     }
 
+    /**
+     * This method used to get the last update time of a room without loading the room.
+     *
+     * @param roomId roomId
+     * @return updatedAt
+     */
+    public long getRoomUpdatedAt(String roomId) {
+        try {
+            return roomRepository.findUpdatedAtById(roomId)
+                    .orElseThrow(() -> new InvalidRoomException("No room found for id: " + roomId));
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room updated at by id " + roomId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to get the room version of a hotel. Hotels without room writes are at version 0.
+     *
+     * @param hotelId hotelId
+     * @return hotelRoomVersion
+     */
+    public HotelRoomVersion getHotelRoomVersion(String hotelId) {
+        try {
+            return hotelRoomVersionRepository.findById(hotelId).orElseGet(() -> new HotelRoomVersion(hotelId, 0, 0));
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room version by hotel id " + hotelId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to drop the cached rooms and search results of a hotel after a room write.
+     *
+     * @param hotelId hotelId
+     */
+    private void invalidateCachedRooms(String hotelId) {
+        roomInventoryCache.invalidate(hotelId);
+        roomSearchResultCache.invalidate(hotelId);
+    }
+
+    /**
+     * This method used to increment the room versions of the hotels of a room write as the first statement of its
+     * transaction. The version rows stay locked until the commit and are taken in hotel id order, so concurrent
+     * writes of a hotel wait here instead of deadlocking on the gap locks of the room and summary statements.
+     *
+     * @param hotelIds hotelIds
+     */
+    private void incrementRoomVersions(Collection<String> hotelIds) {
+        long updatedAt = System.currentTimeMillis();
+        hotelIds.stream().filter(Objects::nonNull).distinct().sorted()
+                .forEach(hotelId -> hotelRoomVersionRepository.incrementRoomVersion(hotelId, updatedAt));
+    }
+
+    /**
+     * This method used to recount the hotel room summaries of the pax count buckets touched by a room write.
+     *
+     * @param summaryBuckets hotel id and pax count of the buckets
+     */
+    private void refreshSummaryBuckets(Collection<HotelRoomSummary.HotelRoomSummaryId> summaryBuckets) {
+        for (HotelRoomSummary.HotelRoomSummaryId summaryBucket : summaryBuckets) {
+            if (summaryBucket.getHotelId() != null) {
+                hotelRoomSummaryRepository.refreshBucket(summaryBucket.getHotelId(), summaryBucket.getPaxCount());
+            }
+        }
+    }
+
+    private HotelRoomSummary.HotelRoomSummaryId getSummaryBucket(Room room) {
+        return new HotelRoomSummary.HotelRoomSummaryId(room.getHotelId(), room.getPaxCount());
+    }
+
     /**
      * This method used to get room page by hotel id.
+     * Rooms are read as views with only the listed columns and their image urls are attached with one more query.
      *
      * @param pageable pageable
      * @param hotelId  hotelId
-     * @return RoomPage
+     * @return RoomView Page
      */
-    public Page<Room> getRoomPageByHotelId(Pageable pageable, String hotelId) {
+    public Page<RoomView> getRoomPageByHotelId(Pageable pageable, String hotelId) {
         try {
-            return roomRepository.findByHotelId(pageable, hotelId);
+            Page<RoomView> roomViews = roomRepository.findRoomViewsByHotelId(hotelId, pageable);
+            setImageUrls(roomViews.getContent());
+            return roomViews;
         } catch (DataAccessException e) {
             throw new RoomServiceException("Getting room list by hotel id " + hotelId + ERROR_MESSAGE, e);
         }
     }
 
+    /**
+     * This method used to get a keyset page of rooms by hotel id ordered by updatedAt and id descending.
+     * The total count is not queried.
+     *
+     * @param hotelId hotelId
+     * @param cursor  cursor of the last room of the previous page or null for the first page
+     * @param size    size
+     * @return RoomView Slice
+     */
+    public Slice<RoomView> getRoomSliceByHotelId(String hotelId, RoomPageCursor cursor, int size) {
+        try {
+            Pageable pageable = PageRequest.of(0, size);
+            Slice<RoomView> roomViews = cursor == null
+                    ? roomRepository.findFirstRoomViewsByHotelId(hotelId, pageable)
+                    : roomRepository.findRoomViewsByHotelIdAfter(hotelId, cursor.getUpdatedAt(), cursor.getId(),
+                    pageable);
+            setImageUrls(roomViews.getContent());
+            return roomViews;
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room list by hotel id " + hotelId + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to attach the image urls to the room views of a page.
+     *
+     * @param roomViews roomViews
+     */
+    private void setImageUrls(List<RoomView> roomViews) {
+        if (roomViews.isEmpty()) {
+            return;
+        }
+        Map<String, RoomView> roomViewsById = new HashMap<>();
+        roomViews.forEach(roomView -> roomViewsById.put(roomView.getId(), roomView));
+        Map<String, List<String>> imageUrlsByRoomId = new HashMap<>();
+        for (RoomImageUrlView imageUrl : roomRepository.findImageUrlsByRoomIdIn(roomViewsById.keySet())) {
+            imageUrlsByRoomId.computeIfAbsent(imageUrl.getRoomId(), roomId -> new ArrayList<>())
+                    .add(imageUrl.getImageUrl());
+        }
+        imageUrlsByRoomId.forEach((roomId, imageUrls) -> roomViewsById.get(roomId).setImageUrls(imageUrls));
+    }
+
+    /**
+     * This method used to count the rooms of a hotel.
+     *
+     * @param hotelId hotelId
+     * @return room count
+     */
+    public long countRoomsByHotelId(String hotelId) {
+        try {
+            return roomRepository.countByHotelId(hotelId);
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Counting rooms by hotel id " + hotelId + ERROR_MESSAGE, e);
+        }
+    }
+
     /**
      * This method used to delete a room.
+     * The room version of the hotel, the room and the summary of its pax count bucket are written in one transaction.
      *
      * @param roomId roomId
      */
     public void deleteRoom(String roomId) {
         try {
             var room = getRoom(roomId);
-            roomRepository.delete(room);
+            transactionOperations.executeWithoutResult(status -> {
+                incrementRoomVersions(Collections.singletonList(room.getHotelId()));
+                roomRepository.delete(room);
+                refreshSummaryBuckets(Set.of(getSummaryBucket(room)));
+            });
+            invalidateCachedRooms(room.getHotelId());
         } catch (DataAccessException e) {
             throw new RoomServiceException("Deleting room by id " + roomId + ERROR_MESSAGE, e);
         }
@@ -98,6 +436,8 @@ public class RoomService {
 
     /**
      * This method used to update a room.
+     * The room versions of its previous and new hotel, the room and the summaries of its previous and new pax count
+     * buckets are written in one transaction.
      *
      * @param id                   id
      * @param roomCreateRequestDto roomCreateRequestDto
@@ -106,9 +446,17 @@ public class RoomService {
     public void updateRoom(String id, RoomCreateRequestDto roomCreateRequestDto) {
         try {
             Room room = getRoom(id);
+            var previousHotelId = room.getHotelId();
+            var previousSummaryBucket = getSummaryBucket(room);
             var roomType = roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId());
             room.update(roomCreateRequestDto, roomType);
-            roomRepository.save(room);
+            transactionOperations.executeWithoutResult(status -> {
+                incrementRoomVersions(Arrays.asList(previousHotelId, room.getHotelId()));
+                roomRepository.save(room);
+                refreshSummaryBuckets(new LinkedHashSet<>(List.of(previousSummaryBucket, getSummaryBucket(room))));
+            });
+            invalidateCachedRooms(previousHotelId);
+            invalidateCachedRooms(room.getHotelId());
         } catch (DataAccessException e) {
             throw new RoomServiceException("Updating room by id " + id + ERROR_MESSAGE, e);
         }
@@ -116,24 +464,45 @@ public class RoomService {
 
     /**
      * This method used to get rooms by pax count and hotel ids.
-     * This method returns room list for exact pax count by iterating all hotelId list.
      *
-     * @param paxCount          paxCount
+     * @param paxCount paxCount
      * @param hotelIds hotelIds
-     * @return hotel id vs room list map
+     * @return hotel id vs room list map in the order of the hotel ids
      */
     public Map<String, List<Room>> getRoomsForPaxCountAndHotelIds(int paxCount, List<String> hotelIds) {
+        return getRoomsForPaxCountAndHotelIds(paxCount, hotelIds, null);
+    }
+
+    /**
+     * This method used to get rooms by pax count and hotel ids which are free for the stay.
+     * This method loads the rooms of all hotels in batched queries and returns room list for exact pax count
+     * by evaluating all hotelId list on the hotel search executor. Rooms occupied on any night of the stay are
+     * left out before the evaluation.
+     * Identical searches for the same hotels in any order share the search in flight and its result until the
+     * result cache expires, the returned map is in the order of the given hotel ids.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   hotelIds
+     * @param stayNights stayNights or null to search without dates
+     * @return hotel id vs room list map in the order of the hotel ids
+     */
+    public Map<String, List<Room>> getRoomsForPaxCountAndHotelIds(int paxCount, List<String> hotelIds,
+                                                                StayNights stayNights) {
         try {
-            Map<String, List<Room>> hotelAndRoomsMap = new HashMap<>();
-            for (String id : hotelIds) {
-                List<Room> rooms = getRoomsByHotelId(id);
-                List<Room> searchList = rooms
-                        .stream().filter(room -> room.getPaxCount() == paxCount).collect(Collectors.toList());
-                if (searchList.isEmpty()) {
-                    searchList = findRoomsForExtraPaxCount(new HashSet<>(rooms), paxCount);
-                }
-                if (!searchList.isEmpty()) {
-                    hotelAndRoomsMap.put(id, searchList);
+            List<String> distinctHotelIds = new ArrayList<>(new LinkedHashSet<>(hotelIds));
+            Map<String, List<Room>> searchResult = roomSearchResultCache.get(paxCount, distinctHotelIds, stayNights,
+                    () -> {
+                        Map<String, List<Room>> hotelAndRoomsMap = new LinkedHashMap<>();
+                        long roomCount = searchHotels(distinctHotelIds, paxCount, stayNights,
+                                hotelAndRoomsMap::putAll);
+                        roomSearchMetrics.recordSearch(distinctHotelIds.size(), roomCount);
+                        return hotelAndRoomsMap;
+                    });
+            Map<String, List<Room>> hotelAndRoomsMap = new LinkedHashMap<>();
+            for (String hotelId : distinctHotelIds) {
+                List<Room> rooms = searchResult.get(hotelId);
+                if (rooms != null) {
+                    hotelAndRoomsMap.put(hotelId, rooms);
                 }
             }
             return hotelAndRoomsMap;
@@ -142,6 +511,208 @@ public class RoomService {
         }
     }
 
+    /**
+     * This method used to get the search summaries of the hotels which can host the pax count.
+     * Hotels are answered from their pax count buckets in the hotel room summary table without loading their rooms,
+     * and the from cost is the cheapest cost per night at which the hotel hosts the pax count times the nights.
+     * Occupancy and rate overrides are not part of the summary, they are applied when the rooms of a hotel are
+     * searched.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   hotelIds
+     * @param nightCount nights of the stay
+     * @return hotelSummaryResponseDto list in the order of the hotel ids
+     */
+    public List<HotelSummaryResponseDto> getHotelSummariesForPaxCount(int paxCount, List<String> hotelIds,
+                                                                      int nightCount) {
+        try {
+            List<String> distinctHotelIds = new ArrayList<>(new LinkedHashSet<>(hotelIds));
+            Map<String, List<HotelRoomSummary>> bucketsByHotelId = new HashMap<>();
+            for (int from = 0; from < distinctHotelIds.size(); from += HOTEL_ID_BATCH_SIZE) {
+                List<String> batch = distinctHotelIds.subList(from,
+                        Math.min(from + HOTEL_ID_BATCH_SIZE, distinctHotelIds.size()));
+                for (HotelRoomSummary hotelRoomSummary : hotelRoomSummaryRepository.findByHotelIdIn(batch)) {
+                    bucketsByHotelId.computeIfAbsent(hotelRoomSummary.getHotelId(), id -> new ArrayList<>())
+                            .add(hotelRoomSummary);
+                }
+            }
+            List<HotelSummaryResponseDto> hotelSummaryResponseDtoList = new ArrayList<>();
+            for (String hotelId : distinctHotelIds) {
+                List<HotelRoomSummary> buckets = bucketsByHotelId.get(hotelId);
+                if (buckets == null) {
+                    continue;
+                }
+                HotelSummary hotelSummary = HotelSummary.of(hotelId, buckets);
+                OptionalLong fromCost = roomAllocator.findFromCost(hotelSummary, paxCount);
+                if (fromCost.isPresent()) {
+                    hotelSummaryResponseDtoList.add(new HotelSummaryResponseDto(hotelSummary,
+                            RoomPricing.stayTotal(fromCost.getAsLong(), nightCount)));
+                }
+            }
+            return hotelSummaryResponseDtoList;
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting hotel room summaries by hotel ids" + ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * This method used to stream rooms by pax count and hotel ids.
+     * Hotel ids are loaded and evaluated in chunks of HOTEL_ID_BATCH_SIZE and the hotels with rooms of every chunk
+     * are handed to the consumer in the order of the hotel ids, so only one chunk is held in memory at a time.
+     * Rooms occupied on any night of the stay are left out before the evaluation.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   hotelIds
+     * @param stayNights stayNights or null to search without dates
+     * @param consumer   consumer of the hotel id vs room list map of a chunk
+     */
+    public void streamRoomsForPaxCountAndHotelIds(int paxCount, List<String> hotelIds, StayNights stayNights,
+                                                  Consumer<Map<String, List<Room>>> consumer) {
+        try {
+            List<String> distinctHotelIds = new ArrayList<>(new LinkedHashSet<>(hotelIds));
+            long roomCount = 0;
+            for (int from = 0; from < distinctHotelIds.size(); from += HOTEL_ID_BATCH_SIZE) {
+                List<String> batch = distinctHotelIds.subList(from,
+                        Math.min(from + HOTEL_ID_BATCH_SIZE, distinctHotelIds.size()));
+                roomCount += searchHotels(batch, paxCount, stayNights, consumer);
+            }
+            roomSearchMetrics.recordSearch(distinctHotelIds.size(), roomCount);
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Failed to get room list by hotel ids and pax count from database.", e);
+        }
+    }
+
+    /**
+     * This method used to search rooms by pax count in one chunk of a search split by the caller.
+     * The size of the search is not recorded, the caller records it once all chunks are searched.
+     *
+     * @param paxCount   paxCount
+     * @param hotelIds   distinct hotelIds of the chunk
+     * @param stayNights stayNights or null to search without dates
+     * @param consumer   consumer of the hotel id vs room list map, not called when no hotel has rooms
+     * @return number of rooms evaluated
+     */
+    public long searchRoomsForPaxCountAndHotelChunk(int paxCount, List<String> hotelIds, StayNights stayNights,
+                                                    Consumer<Map<String, List<Room>>> consumer) {
+        try {
+            return searchHotels(hotelIds, paxCount, stayNights, consumer);
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Failed to get room list by hotel ids and pax count from database.", e);
+        }
+    }
+
+    /**
+     * This method used to search rooms by pax count in the given distinct hotels and hands the hotels with rooms
+     * to the consumer in the order of the hotel ids. Each stage of the search is timed.
+     *
+     * @param hotelIds   distinct hotelIds
+     * @param paxCount   paxCount
+     * @param stayNights stayNights or null to search without dates
+     * @param consumer   consumer of the hotel id vs room list map, not called when no hotel has rooms
+     * @return number of rooms evaluated
+     */
+    private long searchHotels(List<String> hotelIds, int paxCount, StayNights stayNights,
+                              Consumer<Map<String, List<Room>>> consumer) {
+        Map<String, RoomPaxIndex> roomIndexByHotelId = roomSearchMetrics.timeStage(RoomSearchMetrics.Stage.INDEX,
+                () -> getRoomIndexesByHotelIds(hotelIds));
+        Map<String, RoomPaxIndex> availableRoomIndexByHotelId = roomSearchMetrics.timeStage(
+                RoomSearchMetrics.Stage.AVAILABILITY, () -> getAvailableRoomIndexes(roomIndexByHotelId, stayNights));
+        List<List<Room>> searchLists = roomSearchMetrics.timeStage(RoomSearchMetrics.Stage.EVALUATE,
+                () -> hotelSearchExecutor.evaluate(hotelIds,
+                        id -> findRoomsForPaxCount(availableRoomIndexByHotelId.get(id), paxCount)));
+        Map<String, List<Room>> hotelAndRoomsMap = new LinkedHashMap<>();
+        for (int i = 0; i < hotelIds.size(); i++) {
+            if (!searchLists.get(i).isEmpty()) {
+                hotelAndRoomsMap.put(hotelIds.get(i), searchLists.get(i));
+            }
+        }
+        if (!hotelAndRoomsMap.isEmpty()) {
+            consumer.accept(hotelAndRoomsMap);
+        }
+        long roomCount = 0;
+        for (RoomPaxIndex roomPaxIndex : availableRoomIndexByHotelId.values()) {
+            roomCount += roomPaxIndex.getRooms().size();
+        }
+        return roomCount;
+    }
+
+    /**
+     * This method leaves the rooms occupied on any night of the stay out of the room indexes.
+     * Occupancy is not cached, so the cached indexes of hotels with occupied rooms are rebuilt for this search.
+     *
+     * @param roomIndexByHotelId hotel id vs room index map
+     * @param stayNights         stayNights or null to search without dates
+     * @return hotel id vs room index map of the free rooms
+     */
+    private Map<String, RoomPaxIndex> getAvailableRoomIndexes(Map<String, RoomPaxIndex> roomIndexByHotelId,
+                                                              StayNights stayNights) {
+        if (stayNights == null) {
+            return roomIndexByHotelId;
+        }
+        List<String> roomIds = roomIndexByHotelId.values().stream()
+                .flatMap(roomPaxIndex -> roomPaxIndex.getRooms().stream())
+                .map(Room::getId)
+                .collect(Collectors.toList());
+        Set<String> occupiedRoomIds = roomAvailabilityService.findOccupiedRoomIds(roomIds, stayNights);
+        if (occupiedRoomIds.isEmpty()) {
+            return roomIndexByHotelId;
+        }
+        Map<String, RoomPaxIndex> availableRoomIndexByHotelId = new HashMap<>(roomIndexByHotelId);
+        availableRoomIndexByHotelId.replaceAll((hotelId, roomPaxIndex) -> {
+            List<Room> availableRooms = roomPaxIndex.getRooms().stream()
+                    .filter(room -> !occupiedRoomIds.contains(room.getId()))
+                    .collect(Collectors.toList());
+            return availableRooms.size() == roomPaxIndex.getRooms().size() ? roomPaxIndex
+                    : RoomPaxIndex.of(availableRooms);
+        });
+        return availableRoomIndexByHotelId;
+    }
+
+    /**
+     * This method used to get room list of a hotel for the pax count.
+     * Rooms for exact pax count are returned first, otherwise rooms for extra pax count or room combinations.
+     *
+     * @param roomPaxIndex room index of the hotel
+     * @param paxCount     paxCount
+     * @return Room List
+     */
+    private List<Room> findRoomsForPaxCount(RoomPaxIndex roomPaxIndex, int paxCount) {
+        List<Room> searchList = roomPaxIndex.findByPaxCount(paxCount);
+        if (searchList.isEmpty()) {
+            searchList = findRoomsForExtraPaxCount(roomPaxIndex, paxCount);
+        }
+        return searchList;
+    }
+
+    /**
+     * This method finds room indexes for the hotel ids grouped by hotel id.
+     * Indexes are served from the inventory cache and only the missing hotels are loaded from the database.
+     *
+     * @param hotelIds hotelIds
+     * @return hotel id vs room index map
+     */
+    public Map<String, RoomPaxIndex> getRoomIndexesByHotelIds(List<String> hotelIds) {
+        return roomInventoryCache.getAll(new LinkedHashSet<>(hotelIds), this::loadRoomsByHotelIds);
+    }
+
+    /**
+     * This method loads rooms for the hotel ids from the database grouped by hotel id.
+     * Hotel ids are queried in chunks of HOTEL_ID_BATCH_SIZE to keep the IN clause bounded.
+     *
+     * @param hotelIds distinct hotelIds
+     * @return hotel id vs room list map
+     */
+    private Map<String, List<Room>> loadRoomsByHotelIds(List<String> hotelIds) {
+        Map<String, List<Room>> roomsByHotelId = new HashMap<>();
+        for (int from = 0; from < hotelIds.size(); from += HOTEL_ID_BATCH_SIZE) {
+            List<String> batch = hotelIds.subList(from, Math.min(from + HOTEL_ID_BATCH_SIZE, hotelIds.size()));
+            for (Room room : roomRepository.findRoomsWithDetailsByHotelIdIn(batch)) {
+                roomsByHotelId.computeIfAbsent(room.getHotelId(), hotelId -> new ArrayList<>()).add(room);
+            }
+        }
+        return roomsByHotelId;
+    }
+
     /**
      * This method used to get room list by extra pax count.
      * This method returns room that can occupy extra pax count : Eg: Pax count is 5 then
@@ -152,16 +723,21 @@ public class RoomService {
      * @return Room List
      */
     public List<Room> findRoomsForExtraPaxCount(Set<Room> roomSet, int paxCount) {
-        List<Room> searchList = roomSet.stream()
-                .filter(room -> room.getPaxCount() >
-                        paxCount && room.getPaxCount() <= paxCount + 1)
-                .collect(Collectors.toList());
+        return findRoomsForExtraPaxCount(RoomPaxIndex.of(roomSet), paxCount);
+    }
+
+    /**
+     * This method used to get room list by extra pax count from the room index of a hotel.
+     * When no room fits the extra pax count, the best combination of rooms is returned.
+     *
+     * @param roomPaxIndex roomPaxIndex
+     * @param paxCount     paxCount
+     * @return Room List
+     */
+    public List<Room> findRoomsForExtraPaxCount(RoomPaxIndex roomPaxIndex, int paxCount) {
+        List<Room> searchList = roomPaxIndex.findByPaxCount(paxCount + 1);
         if (searchList.isEmpty()) {
-            Optional<Room> optionalRoom = roomSet
-                    .stream().filter(room -> room.getPaxCount() < paxCount).max(Comparator.comparing(Room::getPaxCount));
-            if (optionalRoom.isPresent()) {
-                searchList = findMultipleRoomsForPaxCount(optionalRoom.get(), roomSet, paxCount);
-            }
+            searchList = roomSearchMetrics.timeCombination(() -> roomAllocator.allocate(roomPaxIndex, paxCount));
         }
         return searchList;
     }
@@ -169,42 +745,27 @@ public class RoomService {
     /**
      * This method return the combination of rooms:
      * Eg: PaxCount = 3 ; Then room will return pax count 1 and 2 rooms.
+     * The combination with the exact pax count is preferred, otherwise the one with the minimum extra pax count.
      *
-     * @param maximumPaxRoom maximumPaxRoom
-     * @param roomSet        roomSet
-     * @param paxCount       paxCount
+     * @param roomSet  roomSet
+     * @param paxCount paxCount
      * @return Room List
      */
-    public List<Room> findMultipleRoomsForPaxCount(Room maximumPaxRoom, Set<Room> roomSet, int paxCount) {
-        List<Room> searchRoomList = new ArrayList<>();
-        searchRoomList.add(maximumPaxRoom);
-        int totalPaxCount = maximumPaxRoom.getPaxCount();
-        List<Room> sortedRoomList = roomSet.stream()
-                .filter(room -> !room.equals(maximumPaxRoom))
-                .sorted(Comparator.comparing(Room::getPaxCount).reversed())
-                .collect(Collectors.toList());
-        for (Room room : sortedRoomList) {
-            int roomPaxCount = room.getPaxCount();
-            if (totalPaxCount + roomPaxCount <= paxCount) {
-                searchRoomList.add(room);
-                totalPaxCount += roomPaxCount;
-                if (totalPaxCount == paxCount) {
-                    break;
-                }
-            }
-        }
-        return totalPaxCount == paxCount ? searchRoomList : Collections.emptyList();
+    public List<Room> findMultipleRoomsForPaxCount(Set<Room> roomSet, int paxCount) {
+        return roomSearchMetrics.timeCombination(() -> roomAllocator.allocate(RoomPaxIndex.of(roomSet), paxCount));
     }
 
     /**
      * This method finds rooms by hotel id.
+     * Rooms are served from the inventory cache which is invalidated on room writes.
      *
      * @param hotelId hotelId
      * @return Room List
      */
     public List<Room> getRoomsByHotelId(String hotelId) {
         try {
-            return roomRepository.findByHotelId(hotelId);
+            return roomInventoryCache.get(hotelId,
+                    id -> roomRepository.findRoomsWithDetailsByHotelIdIn(Collections.singletonList(id))).getRooms();
         } catch (DataAccessException e) {
             log.error("Failed to get room by hotel id: {}", hotelId);
             throw new RoomServiceException("Failed to get rooms by hotel id.", e);
@@ -1,5 +1,6 @@
 package com.hilltop.service;
 
+import com.hilltop.cache.RoomTypeRegistry;
 import com.hilltop.domain.request.RoomTypeCreateRequestDto;
 import com.hilltop.exception.InvalidRoomTypeException;
 import com.hilltop.exception.RoomServiceException;
@@ -7,8 +8,10 @@ import com.hilltop.model.RoomType;
 import com.hilltop.repository.RoomTypeRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.util.Optional;
 
 @Service
@@ -16,11 +19,40 @@ import java.util.Optional;
 public class RoomTypeService {
 
     private final RoomTypeRepository roomTypeRepository;
+    private final RoomTypeRegistry roomTypeRegistry;
 
-    public RoomTypeService(RoomTypeRepository roomTypeRepository) {
+    public RoomTypeService(RoomTypeRepository roomTypeRepository, RoomTypeRegistry roomTypeRegistry) {
         this.roomTypeRepository = roomTypeRepository;
+        this.roomTypeRegistry = roomTypeRegistry;
     }
 
+    /**
+     * This method used to load all room types into the registry at startup.
+     * A failed load is only logged since missing room types are loaded from the database on lookup.
+     */
+    @PostConstruct
+    public void loadRoomTypes() {
+        try {
+            reconcileRoomTypes();
+        } catch (RoomServiceException e) {
+            log.error("Loading room types at startup was failed.", e);
+        }
+    }
+
+    /**
+     * This method used to replace the registry with the room types of the database, picking up room types
+     * written by other instances.
+     */
+    @Scheduled(initialDelayString = "${room.room-type-registry.reconcile-interval-millis:60000}",
+            fixedDelayString = "${room.room-type-registry.reconcile-interval-millis:60000}")
+    public void reconcileRoomTypes() {
+        try {
+            roomTypeRegistry.replaceAll(roomTypeRepository.findAll());
+            log.debug("Reconciled {} room types into the registry.", roomTypeRegistry.size());
+        } catch (DataAccessException e) {
+            throw new RoomServiceException("Getting room types from database was failed.", e);
+        }
+    }
 
     /**
      * This method used save roomType.
@@ -32,7 +64,9 @@ public class RoomTypeService {
         try {
             var roomType = new RoomType(roomTypeCreateRequestDto);
             log.info("Saving room type by id: {}", roomType.getId());
-            return roomTypeRepository.save(roomType);
+            var savedRoomType = roomTypeRepository.save(roomType);
+            roomTypeRegistry.put(roomType);
+            return savedRoomType;
         } catch (DataAccessException e) {
             throw new RoomServiceException("Saving room type info into database was failed.", e);
         }
@@ -40,14 +74,20 @@ public class RoomTypeService {
 
     /**
      * This method used to get room type by id.
+     * Room types are served from the registry and only looked up in the database on a registry miss.
      *
      * @param id id
      * @return RoomType
      */
     public RoomType getRoomType(String id) {
+        Optional<RoomType> registeredRoomType = roomTypeRegistry.get(id);
+        if (registeredRoomType.isPresent()) {
+            return registeredRoomType.get();
+        }
         try {
-            Optional<RoomType> roomTypeOptional = roomTypeRepository.findById(id);
+            Optional<RoomType> roomTypeOptional = id == null ? Optional.empty() : roomTypeRepository.findById(id);
             if (roomTypeOptional.isPresent()) {
+                roomTypeRegistry.put(roomTypeOptional.get());
                 return roomTypeOptional.get();
             } else {
                 throw new InvalidRoomTypeException("Invalid room type id: " + id);
@@ -31,6 +31,6 @@ public class ResponseWrapper implements BaseDto {
 
     @Override
     public String toLogJson() {
-        return toJson();
+        return toMaskedJson();
     }
 }
@@ -0,0 +1,32 @@
+-- Room service schema as previously created by hibernate ddl-auto update.
+-- Existing databases are baselined at this version, so this script only runs on empty schemas.
+
+CREATE TABLE room_type
+(
+    id                VARCHAR(255)     NOT NULL,
+    markup_percentage DOUBLE PRECISION NOT NULL,
+    name              VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room
+(
+    id              VARCHAR(255) NOT NULL,
+    cost            DECIMAL(19, 2),
+    created_at      BIGINT       NOT NULL,
+    hotel_id        VARCHAR(255),
+    pax_count       INTEGER      NOT NULL,
+    price_per_night DECIMAL(19, 2),
+    room_number     INTEGER      NOT NULL,
+    updated_at      BIGINT       NOT NULL,
+    room_type_id    VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_room_room_type FOREIGN KEY (room_type_id) REFERENCES room_type (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_image_urls
+(
+    room_id    VARCHAR(255) NOT NULL,
+    image_urls VARCHAR(255),
+    CONSTRAINT fk_room_image_urls_room FOREIGN KEY (room_id) REFERENCES room (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Search by hotel ids with the pax count buckets.
+CREATE INDEX idx_room_hotel_id_pax_count ON room (hotel_id, pax_count);
+
+-- Offset and keyset listing of the rooms of a hotel ordered by updated_at and id.
+CREATE INDEX idx_room_hotel_id_updated_at_id ON room (hotel_id, updated_at, id);
+
+-- Fetch join of the image urls of the rooms.
+CREATE INDEX idx_room_image_urls_room_id ON room_image_urls (room_id);
@@ -0,0 +1,10 @@
+-- Occupied nights of a room per year, night n of the year is bit n - 1 of the nights bitmap.
+CREATE TABLE room_occupancy
+(
+    room_id        VARCHAR(255)  NOT NULL,
+    occupancy_year INTEGER       NOT NULL,
+    nights         VARBINARY(46) NOT NULL,
+    version        BIGINT,
+    PRIMARY KEY (room_id, occupancy_year),
+    CONSTRAINT fk_room_occupancy_room FOREIGN KEY (room_id) REFERENCES room (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
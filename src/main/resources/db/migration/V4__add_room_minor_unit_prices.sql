@@ -0,0 +1,24 @@
+-- Prices are stored as minor units with two decimal places, eg: 123.45 is 12345.
+-- The decimal columns are no longer mapped and are kept until every instance runs on the minor unit columns.
+ALTER TABLE room
+    ADD COLUMN price_per_night_minor_units BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE room
+    ADD COLUMN cost_minor_units BIGINT NOT NULL DEFAULT 0;
+
+UPDATE room
+SET cost_minor_units = ROUND(cost * 100)
+WHERE cost IS NOT NULL;
+
+UPDATE room
+SET price_per_night_minor_units = ROUND(price_per_night * 100)
+WHERE price_per_night IS NOT NULL;
+
+-- Rooms created through the api never stored the price per night, it is derived back from the cost and markup.
+UPDATE room
+SET price_per_night_minor_units = ROUND(cost * 100 / (1 + (SELECT room_type.markup_percentage / 100
+                                                           FROM room_type
+                                                           WHERE room_type.id = room.room_type_id)))
+WHERE price_per_night IS NULL
+  AND cost IS NOT NULL
+  AND room_type_id IS NOT NULL;
@@ -0,0 +1,9 @@
+-- Price per night overrides of a room, one row per overridden night.
+CREATE TABLE room_rate_override
+(
+    room_id                     VARCHAR(255) NOT NULL,
+    night                       DATE         NOT NULL,
+    price_per_night_minor_units BIGINT       NOT NULL,
+    PRIMARY KEY (room_id, night),
+    CONSTRAINT fk_room_rate_override_room FOREIGN KEY (room_id) REFERENCES room (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
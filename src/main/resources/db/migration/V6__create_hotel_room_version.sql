@@ -0,0 +1,9 @@
+-- Version of the room listing of a hotel, incremented on every room write of the hotel.
+-- Served as the ETag and Last-Modified of the hotel room listing, so unchanged listings are answered with 304.
+CREATE TABLE hotel_room_version
+(
+    hotel_id     VARCHAR(255) NOT NULL,
+    room_version BIGINT       NOT NULL,
+    updated_at   BIGINT       NOT NULL,
+    PRIMARY KEY (hotel_id)
+);
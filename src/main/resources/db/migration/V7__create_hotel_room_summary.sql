@@ -0,0 +1,16 @@
+-- Rooms of a hotel per pax count with the cheapest cost per night, kept up to date on every room write.
+-- Answers whether a hotel can host a pax count and from which price without loading its rooms.
+CREATE TABLE hotel_room_summary
+(
+    hotel_id             VARCHAR(255) NOT NULL,
+    pax_count            INTEGER      NOT NULL,
+    room_count           INTEGER      NOT NULL,
+    min_cost_minor_units BIGINT       NOT NULL,
+    PRIMARY KEY (hotel_id, pax_count)
+);
+
+INSERT INTO hotel_room_summary (hotel_id, pax_count, room_count, min_cost_minor_units)
+SELECT hotel_id, pax_count, COUNT(*), MIN(cost_minor_units)
+FROM room
+WHERE hotel_id IS NOT NULL
+GROUP BY hotel_id, pax_count;
@@ -0,0 +1,60 @@
+package com.hilltop.cache;
+
+import com.hilltop.model.Room;
+import com.hilltop.search.RoomPaxIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomInventoryCacheTest {
+
+    private static final List<String> HOTEL_IDS = List.of("hid-1", "hid-2");
+
+    private RoomInventoryCache roomInventoryCache;
+
+    @BeforeEach
+    void setUp() {
+        roomInventoryCache = new RoomInventoryCache(100, 300);
+    }
+
+    @Test
+    void Should_LoadMissingHotelsOnce_When_GettingAllHotelsAgain() {
+        AtomicInteger loadCount = new AtomicInteger();
+        roomInventoryCache.getAll(HOTEL_IDS, countingLoader(loadCount));
+        Map<String, RoomPaxIndex> indexes = roomInventoryCache.getAll(HOTEL_IDS, countingLoader(loadCount));
+        assertEquals(1, loadCount.get());
+        assertEquals(2, indexes.size());
+        assertTrue(indexes.values().stream().allMatch(index -> index.getRooms().isEmpty()));
+    }
+
+    @Test
+    void Should_NotCacheLoadedIndex_When_HotelIsInvalidatedWhileLoading() {
+        AtomicInteger loadCount = new AtomicInteger();
+        roomInventoryCache.getAll(HOTEL_IDS, hotelIds -> {
+            roomInventoryCache.invalidate("hid-1");
+            return countingLoader(loadCount).apply(hotelIds);
+        });
+        List<List<String>> reloadedHotelIds = new ArrayList<>();
+        roomInventoryCache.getAll(HOTEL_IDS, hotelIds -> {
+            reloadedHotelIds.add(hotelIds);
+            return countingLoader(loadCount).apply(hotelIds);
+        });
+        assertEquals(2, loadCount.get());
+        assertEquals(List.of(List.of("hid-1")), reloadedHotelIds);
+    }
+
+    private Function<List<String>, Map<String, List<Room>>> countingLoader(AtomicInteger loadCount) {
+        return hotelIds -> {
+            loadCount.incrementAndGet();
+            return Map.of();
+        };
+    }
+}
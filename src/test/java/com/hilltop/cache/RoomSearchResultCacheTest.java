@@ -0,0 +1,167 @@
+package com.hilltop.cache;
+
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.model.Room;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomSearchResultCacheTest {
+
+    private static final List<String> HOTEL_IDS = List.of("hid-1", "hid-2");
+    private static final List<String> REORDERED_HOTEL_IDS = List.of("hid-2", "hid-1");
+
+    private RoomSearchResultCache roomSearchResultCache;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchResultCache = new RoomSearchResultCache(100, 60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        roomSearchResultCache.bindTo(meterRegistry);
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void Should_ShareSearchInFlight_When_IdenticalSearchesAreConcurrent() throws Exception {
+        CountDownLatch searchStarted = new CountDownLatch(1);
+        CountDownLatch releaseSearch = new CountDownLatch(1);
+        AtomicInteger searchCount = new AtomicInteger();
+        Map<String, List<Room>> searchResult = Map.of("hid-1", List.of());
+        Future<Map<String, List<Room>>> leader = executorService.submit(() -> roomSearchResultCache.get(2, HOTEL_IDS,
+                null, () -> {
+                    searchCount.incrementAndGet();
+                    searchStarted.countDown();
+                    await(releaseSearch);
+                    return searchResult;
+                }));
+        assertTrue(searchStarted.await(5, TimeUnit.SECONDS));
+        Future<Map<String, List<Room>>> follower = executorService.submit(() -> roomSearchResultCache.get(2,
+                REORDERED_HOTEL_IDS, null, countingSearch(searchCount)));
+        while (getCount("coalesced") == 0) {
+            assertFalse(follower.isDone());
+            Thread.sleep(5);
+        }
+        releaseSearch.countDown();
+        assertEquals(searchResult, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(searchResult, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(searchResult, roomSearchResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount)));
+        assertEquals(1, searchCount.get());
+        assertEquals(1, getCount("searched"));
+        assertEquals(1, getCount("coalesced"));
+        assertEquals(1, getCount("cached"));
+    }
+
+    @Test
+    void Should_FailCoalescedSearch_When_SearchInFlightThrowsError() throws Exception {
+        CountDownLatch searchStarted = new CountDownLatch(1);
+        CountDownLatch releaseSearch = new CountDownLatch(1);
+        Future<Map<String, List<Room>>> leader = executorService.submit(() -> roomSearchResultCache.get(2, HOTEL_IDS,
+                null, () -> {
+                    searchStarted.countDown();
+                    await(releaseSearch);
+                    throw new StackOverflowError();
+                }));
+        assertTrue(searchStarted.await(5, TimeUnit.SECONDS));
+        Future<Map<String, List<Room>>> follower = executorService.submit(() -> roomSearchResultCache.get(2,
+                HOTEL_IDS, null, countingSearch(new AtomicInteger())));
+        while (getCount("coalesced") == 0) {
+            Thread.sleep(5);
+        }
+        releaseSearch.countDown();
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+                () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class,
+                () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+        assertInstanceOf(StackOverflowError.class, followerFailure.getCause());
+        assertEquals(0, meterRegistry.get("room.search.in.flight").gauge().value());
+    }
+
+    @Test
+    void Should_SearchAgain_When_SearchIsDifferentOrFailed() {
+        AtomicInteger searchCount = new AtomicInteger();
+        roomSearchResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        roomSearchResultCache.get(3, HOTEL_IDS, null, countingSearch(searchCount));
+        roomSearchResultCache.get(2, List.of("hid-1"), null, countingSearch(searchCount));
+        Supplier<Map<String, List<Room>>> failingSearch = () -> {
+            throw new RoomServiceException("Failed");
+        };
+        assertThrows(RoomServiceException.class, () -> roomSearchResultCache.get(4, HOTEL_IDS, null, failingSearch));
+        roomSearchResultCache.get(4, HOTEL_IDS, null, countingSearch(searchCount));
+        assertEquals(4, searchCount.get());
+        assertEquals(0, getCount("cached"));
+    }
+
+    @Test
+    void Should_SearchAgain_When_HotelOfCachedSearchIsInvalidated() {
+        AtomicInteger searchCount = new AtomicInteger();
+        roomSearchResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        roomSearchResultCache.get(2, List.of("hid-3"), null, countingSearch(searchCount));
+        roomSearchResultCache.invalidate("hid-2");
+        roomSearchResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        roomSearchResultCache.get(2, List.of("hid-3"), null, countingSearch(searchCount));
+        assertEquals(3, searchCount.get());
+        assertEquals(1, getCount("cached"));
+    }
+
+    @Test
+    void Should_NotCacheResult_When_HotelIsInvalidatedDuringSearch() {
+        AtomicInteger searchCount = new AtomicInteger();
+        roomSearchResultCache.get(2, HOTEL_IDS, null, () -> {
+            roomSearchResultCache.invalidate("hid-1");
+            return countingSearch(searchCount).get();
+        });
+        roomSearchResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        assertEquals(2, searchCount.get());
+    }
+
+    @Test
+    void Should_OnlyShareSearchInFlight_When_ResultCacheIsDisabled() {
+        RoomSearchResultCache disabledResultCache = new RoomSearchResultCache(100, 0);
+        AtomicInteger searchCount = new AtomicInteger();
+        disabledResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        disabledResultCache.get(2, HOTEL_IDS, null, countingSearch(searchCount));
+        assertEquals(2, searchCount.get());
+    }
+
+    private Supplier<Map<String, List<Room>>> countingSearch(AtomicInteger searchCount) {
+        return () -> {
+            searchCount.incrementAndGet();
+            return Map.of();
+        };
+    }
+
+    private double getCount(String outcome) {
+        return meterRegistry.get("room.search.coalescing").tag("outcome", outcome).functionCounter().count();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
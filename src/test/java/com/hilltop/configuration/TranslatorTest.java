@@ -0,0 +1,52 @@
+package com.hilltop.configuration;
+
+import com.hilltop.enums.ErrorResponseStatusType;
+import com.hilltop.enums.SuccessResponseStatusType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TranslatorTest {
+
+    private Translator translator;
+
+    @BeforeEach
+    void setUp() {
+        translator = new Translator(new ResourceBundleMessageSourceBean().messageSource(), new String[]{"en"});
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void Should_ReturnBundleMessage_When_TranslatingSuccessStatus() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        assertEquals(translator.toLocale(SuccessResponseStatusType.GET_ROOM.getCodeString(
+                SuccessResponseStatusType.GET_ROOM.getCode())), translator.toLocale(SuccessResponseStatusType.GET_ROOM));
+    }
+
+    @Test
+    void Should_ReturnSameErrorResponse_When_TranslatingErrorStatusInOtherRegionOfSupportedLanguage() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        var errorResponse = translator.toErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID);
+        LocaleContextHolder.setLocale(Locale.UK);
+        assertSame(errorResponse, translator.toErrorResponse(ErrorResponseStatusType.INVALID_ROOM_ID));
+        assertEquals("Invalid room id.", errorResponse.getDisplayMessage());
+        assertEquals(4001, errorResponse.getErrorCode());
+    }
+
+    @Test
+    void Should_ReturnDefaultMessage_When_TranslatingForUnsupportedLocale() {
+        LocaleContextHolder.setLocale(Locale.JAPANESE);
+        assertEquals(translator.toErrorResponse(ErrorResponseStatusType.INTERNAL_SERVER_ERROR).getDisplayMessage(),
+                translator.toDefaultLocale("5000"));
+    }
+}
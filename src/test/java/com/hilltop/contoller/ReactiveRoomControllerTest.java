@@ -0,0 +1,124 @@
+package com.hilltop.contoller;
+
+import com.hilltop.configuration.Translator;
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.response.RoomSearchResponseDto;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import com.hilltop.pricing.StayPricer;
+import com.hilltop.service.ReactiveRoomSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ReactiveRoomControllerTest {
+
+    private static final String SEARCH_HOTEL_ROOMS_URL = "/api/v1/room/reactive/list-hotel-room-by?count=2&days=3&hotelIds=hid-1,hid-2";
+    private static final String STREAM_HOTEL_ROOMS_URL = "/api/v1/room/reactive/list-hotel-room-by/stream?count=2&days=3&hotelIds=hid-1,hid-2";
+
+    @Mock
+    private ReactiveRoomSearchService reactiveRoomSearchService;
+    @Mock
+    private Translator translator;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        ReactiveRoomController reactiveRoomController = new ReactiveRoomController(translator,
+                reactiveRoomSearchService);
+        mockMvc = MockMvcBuilders.standaloneSetup(reactiveRoomController).build();
+    }
+
+    @Test
+    void Should_ReturnOk_When_SearchingHotelRooms() throws Exception {
+        when(reactiveRoomSearchService.searchRooms(eq(2), eq(List.of("hid-1", "hid-2")), eq(3), isNull()))
+                .thenReturn(getSearchResults());
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list[0].hotelId").value("hid-1"))
+                .andExpect(jsonPath("$.data.list[1].hotelId").value("hid-2"));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_SearchingHotelRoomsFailed() throws Exception {
+        when(reactiveRoomSearchService.searchRooms(anyInt(), anyList(), any(), any()))
+                .thenReturn(Flux.error(new RoomServiceException("Failed")));
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingHotelRoomsWithoutDaysOrStayDates() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(
+                        "/api/v1/room/reactive/list-hotel-room-by?count=2&hotelIds=hid-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(reactiveRoomSearchService);
+    }
+
+    @Test
+    void Should_StreamSearchResultPerHotel_When_StreamingHotelRooms() throws Exception {
+        when(reactiveRoomSearchService.searchRooms(eq(2), eq(List.of("hid-1", "hid-2")), eq(3), isNull()))
+                .thenReturn(getSearchResults());
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_HOTEL_ROOMS_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(result -> {
+                    String[] lines = result.getResponse().getContentAsString().split("\n");
+                    assertEquals(2, lines.length);
+                    assertTrue(lines[0].startsWith("{\"hotelId\":\"hid-1\""));
+                    assertTrue(lines[1].startsWith("{\"hotelId\":\"hid-2\""));
+                });
+    }
+
+    private Flux<RoomSearchResponseDto> getSearchResults() {
+        RoomCreateRequestDto roomCreateRequestDto = new RoomCreateRequestDto();
+        roomCreateRequestDto.setRoomTypeId("rtid-gegeg-gse4gvs");
+        roomCreateRequestDto.setPaxCount(2);
+        roomCreateRequestDto.setRoomNumber(4);
+        roomCreateRequestDto.setPricePerNight(BigDecimal.valueOf(5000.00));
+        roomCreateRequestDto.setHotelId("hid-1");
+        roomCreateRequestDto.setImageUrls(new ArrayList<>());
+        Room room = new Room(roomCreateRequestDto, new RoomType("id-gejakjg", "SINGLE", 52.0));
+        return Flux.just(new RoomSearchResponseDto("hid-1", List.of(room), StayPricer.ofDays(3)),
+                new RoomSearchResponseDto("hid-2", List.of(room), StayPricer.ofDays(3)));
+    }
+}
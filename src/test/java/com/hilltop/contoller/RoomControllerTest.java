@@ -1,59 +1,110 @@
 package com.hilltop.contoller;
 
 import com.hilltop.configuration.Translator;
+import com.hilltop.domain.RoomPageCursor;
+import com.hilltop.domain.request.BulkRoomRequestDto;
 import com.hilltop.domain.request.HotelIdRequestDto;
 import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.request.RoomOccupancyRequestDto;
+import com.hilltop.domain.request.RoomRateOverrideRequestDto;
+import com.hilltop.domain.response.BulkRoomResponseDto;
+import com.hilltop.domain.response.BulkRoomResultDto;
+import com.hilltop.domain.response.HotelSummaryResponseDto;
+import com.hilltop.enums.BulkRoomResultStatus;
+import com.hilltop.exception.InvalidBulkRoomRequestException;
 import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.RoomNotAvailableException;
 import com.hilltop.exception.RoomServiceException;
+import com.hilltop.model.HotelRoomSummary;
+import com.hilltop.model.HotelRoomVersion;
 import com.hilltop.model.Room;
 import com.hilltop.model.RoomType;
+import com.hilltop.model.RoomView;
+import com.hilltop.pricing.NightlyRates;
+import com.hilltop.search.HotelSummary;
+import com.hilltop.service.RoomAvailabilityService;
+import com.hilltop.service.RoomRateService;
 import com.hilltop.service.RoomService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class RoomControllerTest {
 
     private static final String CREATE_ROOM_URL = "/api/v1/room";
     private static final String ROOM_ID = "rid-1235-1458-1785";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
     private static final String GET_ROOM_BY_ID_URL = "/api/v1/room/{id}";
     private static final String UPDATE_ROOM_BY_ID_URL = "/api/v1/room/{id}";
     private static final String DELETE_ROOM_BY_ID_URL = "/api/v1/room/{id}";
     private static final String GET_ROOM_LIST_FOR_HOTEL = "/api/v1/room/hotel/hid-ac88c6d1-12bb-4aea-aa46-b2c5c286e525?page=0&size=10";
+    private static final String STREAM_HOTEL_ROOMS_URL = "/api/v1/room/list-hotel-room-by/stream?count=5&days=2&hotelIds=hid-1,hid-2";
+    private static final String GET_ROOM_SLICE_FOR_HOTEL = "/api/v1/room/hotel/hid-gega3-23feg?size=1";
+    private static final String BULK_ROOMS_URL = "/api/v1/room/bulk";
+    private static final String SEARCH_HOTEL_ROOMS_URL = "/api/v1/room/list-hotel-room-by?count=2&hotelIds=hid-1";
+    private static final String SEARCH_HOTEL_SUMMARIES_URL = "/api/v1/room/list-hotel-room-by/summary?count=2&hotelIds=hid-1,hid-2";
+    private static final String ROOM_OCCUPANCY_URL = "/api/v1/room/{id}/occupancy";
+    private static final String ROOM_RATE_OVERRIDE_URL = "/api/v1/room/{id}/rate-override";
     private static final int PAGE_NO = 0;
     private static final int SIZE = 1;
 
     @Mock
     private RoomService roomService;
     @Mock
+    private RoomAvailabilityService roomAvailabilityService;
+    @Mock
+    private RoomRateService roomRateService;
+    @Mock
     private Translator translator;
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        RoomController hotelController = new RoomController(translator, roomService);
+        RoomController hotelController = new RoomController(translator, roomService, roomAvailabilityService,
+                roomRateService, Jackson2ObjectMapperBuilder.json().build());
         mockMvc = MockMvcBuilders.standaloneSetup(hotelController).build();
+        when(roomService.getHotelRoomVersion(any())).thenReturn(new HotelRoomVersion("hid-gega3-23feg", 3,
+                LAST_MODIFIED));
     }
 
     @AfterEach
@@ -108,6 +159,36 @@ class RoomControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void Should_ReturnETag_When_GettingRoom() throws Exception {
+        String url = GET_ROOM_BY_ID_URL.replace("{id}", ROOM_ID);
+        when(roomService.getRoomUpdatedAt(ROOM_ID)).thenReturn(LAST_MODIFIED);
+        when(roomService.getRoom(ROOM_ID)).thenReturn(generateRoom());
+        mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + LAST_MODIFIED + "\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED));
+    }
+
+    @Test
+    void Should_ReturnNotModified_When_RoomETagMatches() throws Exception {
+        String url = GET_ROOM_BY_ID_URL.replace("{id}", ROOM_ID);
+        when(roomService.getRoomUpdatedAt(ROOM_ID)).thenReturn(LAST_MODIFIED);
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + LAST_MODIFIED + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(roomService, never()).getRoom(ROOM_ID);
+    }
+
+    @Test
+    void Should_ReturnOk_When_RoomETagDoesNotMatch() throws Exception {
+        String url = GET_ROOM_BY_ID_URL.replace("{id}", ROOM_ID);
+        when(roomService.getRoomUpdatedAt(ROOM_ID)).thenReturn(LAST_MODIFIED);
+        when(roomService.getRoom(ROOM_ID)).thenReturn(generateRoom());
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void Should_ReturnBadRequest_WhenProvidingInvalidRoomId() throws Exception {
         String url = GET_ROOM_BY_ID_URL.replace("{id}", ROOM_ID);
@@ -143,9 +224,9 @@ class RoomControllerTest {
 
 //    @Test
     void Should_ReturnOk_When_ValidPageAndSizeProvidedForGetAllRoomList() throws Exception {
-        Page<Room> roomPage = getRoomPage();
+        Page<RoomView> roomPage = getRoomPage();
         when(roomService.getRoomPageByHotelId(
-                PageRequest.of(PAGE_NO, SIZE, Sort.by("updatedAt").descending())
+                PageRequest.of(PAGE_NO, SIZE, Sort.by("updatedAt", "id").descending())
                 , "hid-gega3-23feg")).thenReturn(roomPage);
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_LIST_FOR_HOTEL))
                 .andExpect(status().isOk())
@@ -155,11 +236,89 @@ class RoomControllerTest {
 //    @Test
     void Should_ReturnInternalServerError_When_ValidPageAndSizeProvidedForGetAllRoomList() throws Exception {
         doThrow(new RoomServiceException("ERROR")).when(roomService).getRoomPageByHotelId(
-                PageRequest.of(PAGE_NO, SIZE, Sort.by("updatedAt").descending()), "hid-gega3-23feg");
+                PageRequest.of(PAGE_NO, SIZE, Sort.by("updatedAt", "id").descending()), "hid-gega3-23feg");
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_LIST_FOR_HOTEL))
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void Should_SortOffsetPageByUpdatedAtAndId_When_GettingRoomListWithPage() throws Exception {
+        RoomView room = new RoomView(ROOM_ID, 1, "hid-gega3-23feg", 2, "SINGLE", 2200, 100L);
+        when(roomService.getRoomPageByHotelId(any(), eq("hid-gega3-23feg")))
+                .thenReturn(new PageImpl<>(List.of(room), PageRequest.of(PAGE_NO, SIZE), 2));
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_SLICE_FOR_HOTEL + "&page=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value(RoomPageCursor.of(room).encode()));
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(roomService).getRoomPageByHotelId(pageableCaptor.capture(), eq("hid-gega3-23feg"));
+        assertEquals(Sort.by("updatedAt", "id").descending(), pageableCaptor.getValue().getSort());
+    }
+
+    @Test
+    void Should_ReturnNotModified_When_HotelRoomVersionMatches() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_SLICE_FOR_HOTEL).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified());
+        verify(roomService, never()).getRoomSliceByHotelId(any(), any(), anyInt());
+    }
+
+    @Test
+    void Should_ReturnNextCursor_When_GettingKeysetPageOfRoomListWithoutTotal() throws Exception {
+        RoomView room = new RoomView(ROOM_ID, 1, "hid-gega3-23feg", 2, "SINGLE", 2200, 100L);
+        when(roomService.getRoomSliceByHotelId(eq("hid-gega3-23feg"), any(), eq(SIZE)))
+                .thenReturn(new SliceImpl<>(List.of(room), PageRequest.of(PAGE_NO, SIZE), true));
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_SLICE_FOR_HOTEL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(RoomPageCursor.of(room).encode()))
+                .andExpect(jsonPath("$.data.totalItems").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        verify(roomService, never()).countRoomsByHotelId(any());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingRoomListWithInvalidCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ROOM_SLICE_FOR_HOTEL + "&cursor=bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void Should_ReturnOk_When_SavingRoomsInBulkFromJsonArray() throws Exception {
+        when(roomService.saveRooms(anyList())).thenReturn(new BulkRoomResponseDto(List.of(
+                new BulkRoomResultDto(0, ROOM_ID, BulkRoomResultStatus.CREATED, null))));
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_ROOMS_URL)
+                        .content("[" + getSampleRoomCreateRequestDto().toJson() + "]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].id").value(ROOM_ID));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_ReadRowsPerLine_When_SavingRoomsInBulkFromNdjson() throws Exception {
+        when(roomService.getBulkMaxRows()).thenReturn(10);
+        when(roomService.saveRooms(anyList())).thenReturn(new BulkRoomResponseDto(List.of()));
+        String body = getSampleRoomCreateRequestDto().toJson() + "\n\n{invalid\n" + getSampleRoomCreateRequestDto().toJson();
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_ROOMS_URL)
+                        .content(body)
+                        .contentType("application/x-ndjson"))
+                .andExpect(status().isOk());
+        ArgumentCaptor<List<BulkRoomRequestDto>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(roomService).saveRooms(rowsCaptor.capture());
+        assertEquals(3, rowsCaptor.getValue().size());
+        assertEquals("hid-gega3-23feg", rowsCaptor.getValue().get(0).getHotelId());
+        assertNull(rowsCaptor.getValue().get(1));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BulkRowsExceedLimit() throws Exception {
+        when(roomService.saveRooms(anyList())).thenThrow(new InvalidBulkRoomRequestException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_ROOMS_URL)
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void Should_ReturnBadRequest_When_UpdatingARoomWithoutRequiredFields() throws Exception {
         String url = UPDATE_ROOM_BY_ID_URL.replace("{id}", ROOM_ID);
@@ -172,6 +331,158 @@ class RoomControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void Should_StreamSearchResultPerHotel_When_StreamingHotelRooms() throws Exception {
+        Room room = generateRoom();
+        doAnswer(invocation -> {
+            Consumer<Map<String, List<Room>>> consumer = invocation.getArgument(3);
+            Map<String, List<Room>> roomsByHotelId = new LinkedHashMap<>();
+            roomsByHotelId.put("hid-1", List.of(room));
+            roomsByHotelId.put("hid-2", List.of(room));
+            consumer.accept(roomsByHotelId);
+            return null;
+        }).when(roomService).streamRoomsForPaxCountAndHotelIds(eq(5), eq(List.of("hid-1", "hid-2")), isNull(), any());
+        var mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_HOTEL_ROOMS_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(result -> {
+                    String[] lines = result.getResponse().getContentAsString().split("\n");
+                    assertEquals(2, lines.length);
+                    assertTrue(lines[0].startsWith("{\"hotelId\":\"hid-1\""));
+                    assertTrue(lines[1].startsWith("{\"hotelId\":\"hid-2\""));
+                });
+    }
+
+    @Test
+    void Should_PriceFreeRoomsForStayNights_When_StayDatesGiven() throws Exception {
+        Room room = generateRoom();
+        when(roomService.getRoomsForPaxCountAndHotelIds(eq(2), eq(List.of("hid-1")), any()))
+                .thenReturn(Map.of("hid-1", List.of(room)));
+        when(roomRateService.getNightlyRates(eq(List.of(room)), any())).thenReturn(Map.of(ROOM_ID,
+                NightlyRates.of(Map.of(LocalDate.of(2026, 12, 31), 100_00L))));
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL + "&checkIn=2026-12-30&checkOut=2027-01-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list[0].rooms[0].cost").value(
+                        room.getCost().multiply(BigDecimal.valueOf(2)).add(BigDecimal.valueOf(100)).doubleValue()));
+        verify(roomService).getRoomsForPaxCountAndHotelIds(eq(2), eq(List.of("hid-1")),
+                argThat(stayNights -> stayNights.getNightCount() == 3));
+    }
+
+    @Test
+    void Should_MultiplyCostByDays_When_SearchingWithoutStayDates() throws Exception {
+        Room room = generateRoom();
+        when(roomService.getRoomsForPaxCountAndHotelIds(eq(2), eq(List.of("hid-1")), isNull()))
+                .thenReturn(Map.of("hid-1", List.of(room)));
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL + "&days=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list[0].rooms[0].cost").value(
+                        room.getCost().multiply(BigDecimal.valueOf(3)).doubleValue()));
+        verifyNoInteractions(roomRateService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingWithCheckOutBeforeCheckIn() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL + "&checkIn=2026-12-30&checkOut=2026-12-29"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingWithoutDaysOrStayDates() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_ROOMS_URL))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    void Should_ExpandFirstHotelSummaries_When_SearchingHotelSummaries() throws Exception {
+        Room room = generateRoom();
+        List<HotelSummaryResponseDto> hotelSummaries = new ArrayList<>(List.of(
+                new HotelSummaryResponseDto(HotelSummary.of("hid-1", List.of(
+                        new HotelRoomSummary("hid-1", 2, 1, room.getCostMinorUnits()))), 3 * room.getCostMinorUnits()),
+                new HotelSummaryResponseDto(HotelSummary.of("hid-2", List.of(
+                        new HotelRoomSummary("hid-2", 3, 2, 4000))), 12000)));
+        when(roomService.getHotelSummariesForPaxCount(2, List.of("hid-1", "hid-2"), 3)).thenReturn(hotelSummaries);
+        when(roomService.getRoomsForPaxCountAndHotelIds(eq(2), eq(List.of("hid-1")), isNull()))
+                .thenReturn(Map.of("hid-1", List.of(room)));
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_SUMMARIES_URL + "&days=3&expand=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list[0].hotelId").value("hid-1"))
+                .andExpect(jsonPath("$.data.list[0].rooms[0].cost").value(
+                        room.getCost().multiply(BigDecimal.valueOf(3)).doubleValue()))
+                .andExpect(jsonPath("$.data.list[1].hotelId").value("hid-2"))
+                .andExpect(jsonPath("$.data.list[1].fromCost").value(120.0))
+                .andExpect(jsonPath("$.data.list[1].paxBuckets[0].roomCount").value(2))
+                .andExpect(jsonPath("$.data.list[1].rooms").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingHotelSummariesWithoutDaysOrStayDates() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_SUMMARIES_URL))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_SearchingHotelSummariesIsFailed() throws Exception {
+        when(roomService.getHotelSummariesForPaxCount(anyInt(), anyList(), anyInt()))
+                .thenThrow(new RoomServiceException("Failed"));
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_HOTEL_SUMMARIES_URL + "&days=3"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void Should_ReturnOk_When_OccupyingARoom() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put(ROOM_OCCUPANCY_URL.replace("{id}", ROOM_ID))
+                        .content(new RoomOccupancyRequestDto(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 20))
+                                .toLogJson())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(roomAvailabilityService).occupyRoom(eq(ROOM_ID), argThat(stayNights -> stayNights.getNightCount() == 2));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_OccupyingAnOccupiedRoom() throws Exception {
+        doThrow(new RoomNotAvailableException("ERROR")).when(roomAvailabilityService).occupyRoom(eq(ROOM_ID), any());
+        mockMvc.perform(MockMvcRequestBuilders.put(ROOM_OCCUPANCY_URL.replace("{id}", ROOM_ID))
+                        .content(new RoomOccupancyRequestDto(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 20))
+                                .toLogJson())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void Should_ReturnOk_When_ReleasingARoom() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete(ROOM_OCCUPANCY_URL.replace("{id}", ROOM_ID))
+                        .param("checkIn", "2026-10-18").param("checkOut", "2026-10-20"))
+                .andExpect(status().isOk());
+        verify(roomAvailabilityService).releaseRoom(eq(ROOM_ID), argThat(stayNights -> stayNights.getNightCount() == 2));
+    }
+
+    @Test
+    void Should_ReturnOk_When_OverridingARoomRate() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put(ROOM_RATE_OVERRIDE_URL.replace("{id}", ROOM_ID))
+                        .content(new RoomRateOverrideRequestDto(LocalDate.of(2026, 12, 24), LocalDate.of(2026, 12, 27),
+                                BigDecimal.valueOf(150)).toLogJson())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(roomRateService).setRateOverride(eq(ROOM_ID), argThat(stayNights -> stayNights.getNightCount() == 3),
+                eq(BigDecimal.valueOf(150)));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_OverridingARoomRateWithoutPrice() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put(ROOM_RATE_OVERRIDE_URL.replace("{id}", ROOM_ID))
+                        .content(new RoomRateOverrideRequestDto(LocalDate.of(2026, 12, 24), LocalDate.of(2026, 12, 27),
+                                null).toLogJson())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(roomRateService);
+    }
+
     private RoomCreateRequestDto getSampleRoomCreateRequestDto() {
         RoomCreateRequestDto roomCreateRequestDto = new RoomCreateRequestDto();
         roomCreateRequestDto.setRoomTypeId("rtid-gegeg-gse4gvs");
@@ -191,9 +502,9 @@ class RoomControllerTest {
         return room;
     }
 
-    private Page<Room> getRoomPage() {
-        List<Room> rooms = new ArrayList<>();
-        Room room = generateRoom();
+    private Page<RoomView> getRoomPage() {
+        List<RoomView> rooms = new ArrayList<>();
+        RoomView room = new RoomView(ROOM_ID, 1, "hid-gega3-23feg", 2, "SINGLE", 2200, 100L);
         rooms.add(room);
         return new PageImpl<>(rooms);
 
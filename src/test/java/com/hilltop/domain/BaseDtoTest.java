@@ -0,0 +1,31 @@
+package com.hilltop.domain;
+
+import com.hilltop.domain.response.ResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BaseDtoTest {
+
+    @Test
+    void Should_ReturnJson_When_ConvertingDtoToJson() {
+        var guestResponseDto = new GuestResponseDto("hid-123", "guest@hilltop.com");
+        assertEquals("{\"hotelId\":\"hid-123\",\"email\":\"guest@hilltop.com\"}", guestResponseDto.toJson());
+    }
+
+    @Test
+    void Should_MaskAnnotatedFields_When_ConvertingDtoToLogJson() {
+        var guestResponseDto = new GuestResponseDto("hid-123", "guest@hilltop.com");
+        assertEquals("{\"hotelId\":\"hid-123\",\"email\":\"****\"}", guestResponseDto.toLogJson());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class GuestResponseDto extends ResponseDto {
+        private final String hotelId;
+        @Masked
+        private final String email;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hilltop.domain;
+
+import com.hilltop.exception.InvalidPageCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoomPageCursorTest {
+
+    @Test
+    void Should_DecodeEncodedCursor() {
+        RoomPageCursor roomPageCursor = RoomPageCursor.decode(new RoomPageCursor(1674000000000L, "rid-1:a").encode());
+        assertEquals(1674000000000L, roomPageCursor.getUpdatedAt());
+        assertEquals("rid-1:a", roomPageCursor.getId());
+    }
+
+    @Test
+    void Should_ThrowInvalidPageCursorException_When_DecodingInvalidCursor() {
+        assertThrows(InvalidPageCursorException.class, () -> RoomPageCursor.decode("not a cursor"));
+        assertThrows(InvalidPageCursorException.class, () -> RoomPageCursor.decode("bm90LWEtY3Vyc29y"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.hilltop.domain;
+
+import com.hilltop.exception.InvalidStayException;
+import com.hilltop.model.RoomOccupancy;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StayNightsTest {
+
+    @Test
+    void Should_SplitNightsByYear_When_StayCrossesNewYear() {
+        StayNights stayNights = StayNights.of(LocalDate.of(2026, 12, 30), LocalDate.of(2027, 1, 2));
+        assertEquals(3, stayNights.getNightCount());
+        assertEquals(List.of(2026, 2027), List.copyOf(stayNights.getYears()));
+        assertTrue(stayNights.getNights(2025).isEmpty());
+        BitSet nights2026 = stayNights.getNights(2026);
+        assertEquals(2, nights2026.cardinality());
+        assertTrue(nights2026.get(363) && nights2026.get(364));
+        BitSet nights2027 = stayNights.getNights(2027);
+        assertEquals(1, nights2027.cardinality());
+        assertTrue(nights2027.get(0));
+    }
+
+    @Test
+    void Should_OverlapOnlyOccupiedNightsOfStay() {
+        RoomOccupancy roomOccupancy = new RoomOccupancy("rid-1", 2026);
+        roomOccupancy.setOccupiedNights(StayNights.of(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 20))
+                .getNights(2026));
+        assertTrue(StayNights.of(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 22)).overlaps(roomOccupancy));
+        assertFalse(StayNights.of(LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 22)).overlaps(roomOccupancy));
+        assertFalse(StayNights.of(LocalDate.of(2026, 10, 15), LocalDate.of(2026, 10, 18)).overlaps(roomOccupancy));
+        assertFalse(StayNights.of(LocalDate.of(2027, 10, 18), LocalDate.of(2027, 10, 20)).overlaps(roomOccupancy));
+    }
+
+    @Test
+    void Should_ThrowInvalidStayException_When_CheckOutIsNotAfterCheckIn() {
+        LocalDate checkIn = LocalDate.of(2026, 10, 18);
+        assertThrows(InvalidStayException.class, () -> StayNights.of(checkIn, checkIn));
+        assertThrows(InvalidStayException.class, () -> StayNights.of(checkIn, null));
+        assertThrows(InvalidStayException.class, () -> StayNights.of(checkIn, checkIn.plusDays(366)));
+    }
+}
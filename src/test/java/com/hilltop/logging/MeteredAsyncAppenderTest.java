@@ -0,0 +1,99 @@
+package com.hilltop.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fills the queue of the appender while its worker is held on the first event.
+ */
+class MeteredAsyncAppenderTest {
+
+    private static final int QUEUE_SIZE = 10;
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstEventTaken = new CountDownLatch(1);
+    private final List<Level> appendedLevels = new CopyOnWriteArrayList<>();
+    private MeteredAsyncAppender asyncAppender;
+
+    @BeforeEach
+    void setUp() {
+        AppenderBase<ILoggingEvent> slowAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                firstEventTaken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                appendedLevels.add(event.getLevel());
+            }
+        };
+        slowAppender.setContext(loggerContext);
+        slowAppender.start();
+        asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(QUEUE_SIZE);
+        asyncAppender.setDiscardingThreshold(5);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(slowAppender);
+        asyncAppender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        asyncAppender.stop();
+    }
+
+    @Test
+    void Should_DropDebugAndKeepInfo_When_QueueIsAboveDiscardingThreshold() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.INFO));
+        assertTrue(firstEventTaken.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 6; i++) {
+            asyncAppender.doAppend(event(Level.INFO));
+        }
+        asyncAppender.doAppend(event(Level.DEBUG));
+        asyncAppender.doAppend(event(Level.WARN));
+        assertEquals(1, asyncAppender.getDroppedCount());
+        assertEquals(7, asyncAppender.getNumberOfElementsInQueue());
+        release.countDown();
+        asyncAppender.stop();
+        assertEquals(8, appendedLevels.size());
+        assertTrue(appendedLevels.stream().noneMatch(Level.DEBUG::equals));
+    }
+
+    @Test
+    void Should_CountDroppedEvents_When_QueueIsFull() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.INFO));
+        assertTrue(firstEventTaken.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < QUEUE_SIZE + 3; i++) {
+            asyncAppender.doAppend(event(Level.WARN));
+        }
+        assertEquals(3, asyncAppender.getDroppedCount());
+        assertEquals(0, asyncAppender.getRemainingCapacity());
+    }
+
+    private LoggingEvent event(Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLevel(level);
+        event.setLoggerName(MeteredAsyncAppenderTest.class.getName());
+        event.setMessage("message");
+        return event;
+    }
+}
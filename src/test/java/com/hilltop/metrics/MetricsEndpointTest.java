@@ -0,0 +1,47 @@
+package com.hilltop.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Starts the application against H2 and scrapes the prometheus endpoint.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void Should_ExposeSearchCachePoolAndLoggingMeters_When_ScrapingPrometheusEndpoint() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/room/hotel/hid-1").param("size", "10"))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count")))
+                .andExpect(content().string(containsString("room_search_combination_seconds_count")))
+                .andExpect(content().string(containsString("room_search_hotels_count")))
+                .andExpect(content().string(containsString("room_search_coalescing_total{application=\"room-service\",outcome=\"coalesced\"")))
+                .andExpect(content().string(containsString("cache_gets_total{application=\"room-service\",cache=\"roomInventory\"")))
+                .andExpect(content().string(containsString("cache_gets_total{application=\"room-service\",cache=\"roomTypeRegistry\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("logging_async_queue_depth{appender=\"AsyncFile\"")))
+                .andExpect(content().string(containsString("logging_async_dropped_total{appender=\"AsyncFileError\"")));
+    }
+}
@@ -0,0 +1,49 @@
+package com.hilltop.model;
+
+import com.hilltop.enums.IdStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityIdsTest {
+
+    @AfterEach
+    void tearDown() {
+        EntityIds.setStrategy(IdStrategy.RANDOM);
+    }
+
+    @Test
+    void Should_CreateVersion7Uuid_When_CreatingTimeOrderedUuid() {
+        long before = System.currentTimeMillis();
+        UUID uuid = EntityIds.timeOrderedUuid();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void Should_CreateOrderedIds_When_UsingTimeOrderedStrategy() {
+        EntityIds.setStrategy(IdStrategy.TIME_ORDERED);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(EntityIds.newId("rid-"));
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, ids.get(i - 1) + " " + ids.get(i));
+        }
+        assertEquals(40, ids.get(0).length());
+    }
+
+    @Test
+    void Should_CreateRandomUuid_When_UsingRandomStrategy() {
+        String id = EntityIds.newId("rid-");
+        assertEquals(4, UUID.fromString(id.substring(4)).version());
+    }
+}
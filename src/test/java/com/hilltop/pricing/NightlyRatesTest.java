@@ -0,0 +1,24 @@
+package com.hilltop.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NightlyRatesTest {
+
+    private static final LocalDate CHRISTMAS_EVE = LocalDate.of(2026, 12, 24);
+
+    @Test
+    void Should_UseOverridesOnlyForOverriddenNightsOfStay() {
+        NightlyRates nightlyRates = NightlyRates.of(Map.of(CHRISTMAS_EVE, 2000L, CHRISTMAS_EVE.plusDays(1), 3000L,
+                CHRISTMAS_EVE.plusDays(10), 5000L));
+        assertEquals(3, nightlyRates.size());
+        assertEquals(1000 + 2000 + 3000 + 1000, nightlyRates.stayTotal(1000, CHRISTMAS_EVE.minusDays(1).toEpochDay(), 4));
+        assertEquals(3000 + 1000, nightlyRates.stayTotal(1000, CHRISTMAS_EVE.plusDays(1).toEpochDay(), 2));
+        assertEquals(2000, nightlyRates.stayTotal(1000, CHRISTMAS_EVE.plusDays(2).toEpochDay(), 2));
+        assertEquals(5000, nightlyRates.stayTotal(1000, CHRISTMAS_EVE.plusDays(10).toEpochDay(), 1));
+    }
+}
@@ -0,0 +1,33 @@
+package com.hilltop.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoomPricingTest {
+
+    @Test
+    void Should_ConvertBetweenAmountsAndMinorUnits() {
+        assertEquals(12345, RoomPricing.toMinorUnits(new BigDecimal("123.45")));
+        assertEquals(12346, RoomPricing.toMinorUnits(new BigDecimal("123.455")));
+        assertEquals(0, RoomPricing.toMinorUnits(null));
+        assertEquals(new BigDecimal("123.45"), RoomPricing.toDecimal(12345));
+    }
+
+    @Test
+    void Should_RoundMarkupHalfUpToMinorUnit() {
+        assertEquals(1100, RoomPricing.applyMarkup(1000, RoomPricing.toBasisPoints(10)));
+        assertEquals(1136, RoomPricing.applyMarkup(1010, RoomPricing.toBasisPoints(12.5)));
+        assertEquals(1010, RoomPricing.applyMarkup(1010, 0));
+        assertEquals(760000, RoomPricing.applyMarkup(500000, RoomPricing.toBasisPoints(52.0)));
+    }
+
+    @Test
+    void Should_MultiplyNightlyCost_When_CalculatingStayTotal() {
+        assertEquals(3300, RoomPricing.stayTotal(1100, 3));
+        assertThrows(ArithmeticException.class, () -> RoomPricing.stayTotal(Long.MAX_VALUE / 2, 3));
+    }
+}
@@ -0,0 +1,157 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.HotelRoomSummary;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import com.hilltop.pricing.RoomPricing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the summary statements against H2 in MySQL mode.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class HotelRoomSummaryRepositoryTest {
+
+    private static final String HOTEL_ID = "hid-1";
+
+    @Autowired
+    private HotelRoomSummaryRepository hotelRoomSummaryRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+    @Autowired
+    private HotelRoomVersionRepository hotelRoomVersionRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private RoomType roomType;
+
+    @BeforeEach
+    void setUp() {
+        roomType = roomTypeRepository.save(new RoomType("rtid-1", "SINGLE", 10));
+    }
+
+    @Test
+    void Should_CountRoomsAndKeepCheapestCost_When_RefreshingBuckets() {
+        saveRoom("rid-1", HOTEL_ID, 2, 50);
+        saveRoom("rid-2", HOTEL_ID, 2, 30);
+        saveRoom("rid-3", HOTEL_ID, 2, 40);
+        saveRoom("rid-4", HOTEL_ID, 3, 60);
+        saveRoom("rid-5", "hid-2", 2, 10);
+        hotelRoomSummaryRepository.refreshBucket(HOTEL_ID, 2);
+        hotelRoomSummaryRepository.refreshBucket(HOTEL_ID, 3);
+        List<HotelRoomSummary> summaries = findSummaries();
+        assertEquals(2, summaries.size());
+        assertBucket(summaries.get(0), 2, 3, RoomPricing.toMinorUnits(BigDecimal.valueOf(30)));
+        assertBucket(summaries.get(1), 3, 1, RoomPricing.toMinorUnits(BigDecimal.valueOf(60)));
+    }
+
+    @Test
+    void Should_ReplaceStaleBucket_When_RefreshingBucket() {
+        testEntityManager.persistAndFlush(new HotelRoomSummary(HOTEL_ID, 2, 5, 1));
+        saveRoom("rid-1", HOTEL_ID, 2, 50);
+        saveRoom("rid-2", HOTEL_ID, 2, 30);
+        hotelRoomSummaryRepository.refreshBucket(HOTEL_ID, 2);
+        List<HotelRoomSummary> summaries = findSummaries();
+        assertEquals(1, summaries.size());
+        assertBucket(summaries.get(0), 2, 2, RoomPricing.toMinorUnits(BigDecimal.valueOf(30)));
+    }
+
+    @Test
+    void Should_RemoveBucket_When_RefreshingBucketWithoutRooms() {
+        testEntityManager.persistAndFlush(new HotelRoomSummary(HOTEL_ID, 2, 1, 3000));
+        hotelRoomSummaryRepository.refreshBucket(HOTEL_ID, 2);
+        assertTrue(findSummaries().isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void Should_CountEveryRoom_When_WritingNewBucketsOfHotelConcurrently() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 2; writer++) {
+                int firstPaxCount = writer * 10 + 1;
+                writers.add(executorService.submit(() -> {
+                    start.await();
+                    for (int paxCount = firstPaxCount; paxCount < firstPaxCount + 10; paxCount++) {
+                        int bucketPaxCount = paxCount;
+                        transactionTemplate.executeWithoutResult(status -> {
+                            hotelRoomVersionRepository.incrementRoomVersion(HOTEL_ID, System.currentTimeMillis());
+                            saveRoom("rid-" + bucketPaxCount, HOTEL_ID, bucketPaxCount, bucketPaxCount);
+                            hotelRoomSummaryRepository.refreshBucket(HOTEL_ID, bucketPaxCount);
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            List<HotelRoomSummary> summaries = new ArrayList<>(
+                    hotelRoomSummaryRepository.findByHotelIdIn(List.of(HOTEL_ID)));
+            summaries.sort(Comparator.comparingInt(HotelRoomSummary::getPaxCount));
+            assertEquals(20, summaries.size());
+            for (int i = 0; i < summaries.size(); i++) {
+                assertBucket(summaries.get(i), i + 1, 1, RoomPricing.toMinorUnits(BigDecimal.valueOf(i + 1)));
+            }
+            assertEquals(20, hotelRoomVersionRepository.findById(HOTEL_ID).orElseThrow().getRoomVersion());
+        } finally {
+            executorService.shutdownNow();
+            hotelRoomSummaryRepository.deleteAll();
+            hotelRoomVersionRepository.deleteAll();
+            roomRepository.deleteAll();
+            roomTypeRepository.deleteAll();
+        }
+    }
+
+    private void saveRoom(String id, String hotelId, int paxCount, int cost) {
+        roomRepository.saveAndFlush(new Room(id, 1, hotelId, paxCount, roomType, List.of(),
+                BigDecimal.valueOf(cost), BigDecimal.valueOf(cost), 0, 0));
+    }
+
+    private List<HotelRoomSummary> findSummaries() {
+        testEntityManager.clear();
+        List<HotelRoomSummary> summaries = new ArrayList<>(
+                hotelRoomSummaryRepository.findByHotelIdIn(List.of(HOTEL_ID)));
+        summaries.sort(Comparator.comparingInt(HotelRoomSummary::getPaxCount));
+        return summaries;
+    }
+
+    private void assertBucket(HotelRoomSummary summary, int paxCount, int roomCount, long minCostMinorUnits) {
+        assertEquals(HOTEL_ID, summary.getHotelId());
+        assertEquals(paxCount, summary.getPaxCount());
+        assertEquals(roomCount, summary.getRoomCount());
+        assertEquals(minCostMinorUnits, summary.getMinCostMinorUnits());
+    }
+}
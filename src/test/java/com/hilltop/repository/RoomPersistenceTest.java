@@ -0,0 +1,171 @@
+package com.hilltop.repository;
+
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.response.RoomResponseDto;
+import com.hilltop.model.HotelRoomVersion;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomImageUrlView;
+import com.hilltop.model.RoomType;
+import com.hilltop.model.RoomView;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the sql statements of saving rooms with application assigned ids and of reading rooms for the listing,
+ * search and room responses.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class RoomPersistenceTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+    @Autowired
+    private HotelRoomVersionRepository hotelRoomVersionRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    private Statistics statistics;
+    private RoomType roomType;
+
+    @BeforeEach
+    void setUp() {
+        roomType = roomTypeRepository.saveAndFlush(new RoomType("rtid-1", "SINGLE", 10));
+        testEntityManager.clear();
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void Should_OnlyInsert_When_SavingNewRoomWithDetachedRoomType() {
+        Room room = new Room(getSampleRoomCreateRequestDto(), roomType);
+        roomRepository.saveAndFlush(room);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertFalse(room.isNew());
+    }
+
+    @Test
+    void Should_PrepareOneStatementPerTable_When_SavingNewRoomsInBulk() {
+        List<Room> rooms = List.of(new Room(getSampleRoomCreateRequestDto(), roomType),
+                new Room(getSampleRoomCreateRequestDto(), roomType),
+                new Room(getSampleRoomCreateRequestDto(), roomType));
+        roomRepository.saveAll(rooms);
+        roomRepository.flush();
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void Should_UpdateExistingRoom_When_SavingLoadedRoom() {
+        Room room = roomRepository.saveAndFlush(new Room(getSampleRoomCreateRequestDto(), roomType));
+        testEntityManager.clear();
+        Room loadedRoom = roomRepository.findById(room.getId()).orElseThrow();
+        assertFalse(loadedRoom.isNew());
+        loadedRoom.setPaxCount(4);
+        roomRepository.saveAndFlush(loadedRoom);
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void Should_NotLoadEntities_When_GettingRoomViewsByHotelId() {
+        Room room = roomRepository.saveAndFlush(new Room(getSampleRoomCreateRequestDto(), roomType));
+        testEntityManager.clear();
+        statistics.clear();
+        List<RoomView> roomViews = roomRepository.findFirstRoomViewsByHotelId("hid-1", PageRequest.of(0, 10))
+                .getContent();
+        List<RoomImageUrlView> imageUrls = roomRepository.findImageUrlsByRoomIdIn(List.of(room.getId()));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals("SINGLE", roomViews.get(0).getRoomTypeName());
+        assertEquals(room.getCostMinorUnits(), roomViews.get(0).getCostMinorUnits());
+        assertEquals("https://cdn/1.png", imageUrls.get(0).getImageUrl());
+    }
+
+    @Test
+    void Should_LoadRoomsReadOnly_When_SearchingRoomsByHotelIds() {
+        roomRepository.saveAndFlush(new Room(getSampleRoomCreateRequestDto(), roomType));
+        testEntityManager.clear();
+        Room room = roomRepository.findRoomsWithDetailsByHotelIdIn(List.of("hid-1")).get(0);
+        assertTrue(testEntityManager.getEntityManager().unwrap(Session.class).isReadOnly(room));
+    }
+
+    @Test
+    void Should_PrepareConstantStatementCount_When_MappingRoomPagesOfDifferentSizes() {
+        assertEquals(getStatementCountOfMappingRooms(5), getStatementCountOfMappingRooms(60));
+    }
+
+    @Test
+    void Should_FetchRoomTypeAndImageUrlsInOneStatement_When_GettingRoomWithDetails() {
+        Room room = roomRepository.saveAndFlush(new Room(getSampleRoomCreateRequestDto(), roomType));
+        testEntityManager.clear();
+        statistics.clear();
+        RoomResponseDto roomResponseDto = new RoomResponseDto(roomRepository.findWithDetailsById(room.getId())
+                .orElseThrow());
+        assertEquals(List.of("https://cdn/1.png"), roomResponseDto.getImageUrls());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void Should_IncrementHotelRoomVersion_When_WritingRoomsOfHotel() {
+        hotelRoomVersionRepository.incrementRoomVersion("hid-1", 100L);
+        hotelRoomVersionRepository.incrementRoomVersion("hid-1", 50L);
+        testEntityManager.clear();
+        HotelRoomVersion hotelRoomVersion = hotelRoomVersionRepository.findById("hid-1").orElseThrow();
+        assertEquals(2, hotelRoomVersion.getRoomVersion());
+        assertEquals(100L, hotelRoomVersion.getUpdatedAt());
+    }
+
+    private long getStatementCountOfMappingRooms(int roomCount) {
+        String hotelId = "hid-" + roomCount;
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room(getSampleRoomCreateRequestDto(), roomType);
+            room.setHotelId(hotelId);
+            rooms.add(room);
+        }
+        roomRepository.saveAllAndFlush(rooms);
+        testEntityManager.clear();
+        statistics.clear();
+        List<RoomResponseDto> roomResponses = roomRepository.findByHotelId(hotelId).stream()
+                .map(RoomResponseDto::new).collect(Collectors.toList());
+        roomResponses.forEach(roomResponseDto -> assertEquals(1, roomResponseDto.getImageUrls().size()));
+        assertEquals(roomCount, roomResponses.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private RoomCreateRequestDto getSampleRoomCreateRequestDto() {
+        RoomCreateRequestDto roomCreateRequestDto = new RoomCreateRequestDto();
+        roomCreateRequestDto.setRoomNumber(1);
+        roomCreateRequestDto.setHotelId("hid-1");
+        roomCreateRequestDto.setPaxCount(2);
+        roomCreateRequestDto.setRoomTypeId(roomType.getId());
+        roomCreateRequestDto.setImageUrls(List.of("https://cdn/1.png"));
+        roomCreateRequestDto.setPricePerNight(BigDecimal.TEN);
+        return roomCreateRequestDto;
+    }
+}
@@ -0,0 +1,109 @@
+package com.hilltop.repository;
+
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the flyway migrations against H2 in MySQL mode and asserts via EXPLAIN that the room queries generated by
+ * hibernate are served by the indexes of the migrations instead of table scans.
+ * H2 does not cost ORDER BY avoidance, so it is not asserted which of the hotel_id indexes is picked.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.hilltop.repository.RoomRepositoryIndexTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class RoomRepositoryIndexTest {
+
+    private static final String HOTEL_ID = "hid-1";
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RoomType roomType = roomTypeRepository.save(new RoomType("rtid-1", "SINGLE", 10));
+        for (int i = 0; i < 100; i++) {
+            roomRepository.save(new Room("rid-" + i, i, "hid-" + i % 10, 1 + i % 5, roomType,
+                    List.of("https://cdn/" + i + ".png"), BigDecimal.TEN, BigDecimal.TEN, i, i));
+        }
+        roomRepository.flush();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void Should_UseHotelIdIndexes_When_SearchingRoomsByHotelIds() {
+        roomRepository.findRoomsWithDetailsByHotelIdIn(List.of(HOTEL_ID, "hid-2"));
+        String plan = explain(lastStatement(), HOTEL_ID, "hid-2");
+        assertTrue(plan.contains("public.idx_room_hotel_id_"), plan);
+        assertTrue(plan.contains("room_id = room0_.id"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UseHotelIdIndexes_When_GettingKeysetPageByHotelId() {
+        roomRepository.findRoomViewsByHotelIdAfter(HOTEL_ID, 50L, "rid-50", PageRequest.of(0, 2));
+        String plan = explain(lastStatement(), HOTEL_ID, 50L, 50L, "rid-50", 3);
+        assertTrue(plan.contains("public.idx_room_hotel_id_"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_UseHotelIdIndexes_When_GettingPageByHotelId() {
+        roomRepository.findRoomViewsByHotelId(HOTEL_ID, PageRequest.of(0, 2, Sort.by("updatedAt", "id").descending()));
+        String plan = explain(RecordingStatementInspector.STATEMENTS.get(0), HOTEL_ID, 2);
+        assertTrue(plan.contains("public.idx_room_hotel_id_"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void Should_CreateSearchIndexes_When_MigratingSchema() {
+        List<String> indexNames = jdbcTemplate.queryForList("SELECT index_name FROM information_schema.indexes " +
+                "WHERE table_name IN ('room', 'room_image_urls')", String.class);
+        assertTrue(indexNames.containsAll(List.of("idx_room_hotel_id_pax_count", "idx_room_hotel_id_updated_at_id",
+                "idx_room_image_urls_room_id")), indexNames.toString());
+    }
+
+    private String lastStatement() {
+        return RecordingStatementInspector.STATEMENTS.get(RecordingStatementInspector.STATEMENTS.size() - 1);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    /**
+     * Records the sql statements prepared by hibernate.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
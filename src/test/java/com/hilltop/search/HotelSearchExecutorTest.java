@@ -0,0 +1,156 @@
+package com.hilltop.search;
+
+import com.hilltop.exception.RoomServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelSearchExecutorTest {
+
+    private HotelSearchExecutor hotelSearchExecutor;
+
+    @BeforeEach
+    void setUp() {
+        hotelSearchExecutor = new HotelSearchExecutor(4, 10, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotelSearchExecutor.destroy();
+    }
+
+    @Test
+    void Should_ReturnResultsInHotelOrder_When_EvaluatingInParallel() {
+        List<String> hotelIds = getHotelIds(500);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        List<String> results = hotelSearchExecutor.evaluate(hotelIds, hotelId -> {
+            threadNames.add(Thread.currentThread().getName());
+            return hotelId.toUpperCase();
+        });
+        assertEquals(500, results.size());
+        for (int i = 0; i < hotelIds.size(); i++) {
+            assertEquals(hotelIds.get(i).toUpperCase(), results.get(i));
+        }
+        assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("hotel-search-")));
+    }
+
+    @Test
+    void Should_EvaluateOnCallingThread_When_BelowParallelThreshold() {
+        String callingThread = Thread.currentThread().getName();
+        List<String> results = hotelSearchExecutor.evaluate(getHotelIds(5), hotelId -> Thread.currentThread().getName());
+        assertTrue(results.stream().allMatch(callingThread::equals));
+    }
+
+    @Test
+    void Should_ThrowRoomServiceException_When_DeadlineIsExceeded() {
+        List<String> hotelIds = getHotelIds(20);
+        RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                hotelSearchExecutor.evaluate(hotelIds, hotelId -> {
+                    try {
+                        Thread.sleep(1000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return hotelId;
+                }));
+        assertEquals("Searching hotels exceeded the deadline of 500 ms.", roomServiceException.getMessage());
+    }
+
+    @Test
+    void Should_RejectSearchWithoutRunningOnCallingThread_When_QueueIsFull() throws InterruptedException {
+        HotelSearchExecutor saturatedExecutor = new HotelSearchExecutor(2, 1, 5000, 1);
+        CountDownLatch releaseEvaluation = new CountDownLatch(1);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        try {
+            List<String> hotelIds = getHotelIds(8);
+            long start = System.nanoTime();
+            RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                    saturatedExecutor.evaluate(hotelIds, hotelId -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        try {
+                            releaseEvaluation.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return hotelId;
+                    }));
+            assertEquals("Searching hotels was rejected, the search queue is full.",
+                    roomServiceException.getMessage());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertFalse(threadNames.contains(Thread.currentThread().getName()));
+        } finally {
+            releaseEvaluation.countDown();
+            saturatedExecutor.destroy();
+        }
+    }
+
+    @Test
+    void Should_ThrowRoomServiceException_When_DeadlineIsExceededBelowParallelThreshold() {
+        AtomicInteger evaluatedCount = new AtomicInteger();
+        List<String> hotelIds = getHotelIds(5);
+        RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                hotelSearchExecutor.evaluate(hotelIds, hotelId -> {
+                    evaluatedCount.incrementAndGet();
+                    spin(TimeUnit.MILLISECONDS.toNanos(200));
+                    return hotelId;
+                }));
+        assertEquals("Searching hotels exceeded the deadline of 500 ms.", roomServiceException.getMessage());
+        assertTrue(evaluatedCount.get() < hotelIds.size());
+    }
+
+    @Test
+    void Should_StopEvaluatingPartitions_When_SearchIsCancelled() throws InterruptedException {
+        HotelSearchExecutor cancellingExecutor = new HotelSearchExecutor(2, 1, 100);
+        AtomicInteger evaluatedCount = new AtomicInteger();
+        try {
+            List<String> hotelIds = getHotelIds(80);
+            assertThrows(RoomServiceException.class, () -> cancellingExecutor.evaluate(hotelIds, hotelId -> {
+                evaluatedCount.incrementAndGet();
+                spin(TimeUnit.MILLISECONDS.toNanos(20));
+                return hotelId;
+            }));
+            Thread.sleep(50);
+            int evaluatedAfterCancel = evaluatedCount.get();
+            Thread.sleep(300);
+            assertEquals(evaluatedAfterCancel, evaluatedCount.get());
+            assertTrue(evaluatedAfterCancel < hotelIds.size());
+        } finally {
+            cancellingExecutor.destroy();
+        }
+    }
+
+    @Test
+    void Should_RethrowEvaluationException() {
+        List<String> hotelIds = getHotelIds(20);
+        RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                hotelSearchExecutor.evaluate(hotelIds, hotelId -> {
+                    throw new RoomServiceException("ERROR");
+                }));
+        assertEquals("ERROR", roomServiceException.getMessage());
+    }
+
+    private void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private List<String> getHotelIds(int count) {
+        List<String> hotelIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hotelIds.add("hid-" + i);
+        }
+        return hotelIds;
+    }
+}
@@ -0,0 +1,92 @@
+package com.hilltop.search;
+
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.request.RoomTypeCreateRequestDto;
+import com.hilltop.model.HotelRoomSummary;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomAllocatorTest {
+
+    private final RoomAllocator roomAllocator = new RoomAllocator(4);
+
+    @Test
+    void Should_ReturnExactCombination_When_GreedyCombinationMisses() {
+        Room room1 = getSampleRoom(4, 10);
+        Room room2 = getSampleRoom(3, 10);
+        Room room3 = getSampleRoom(3, 10);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertEquals(Arrays.asList(room2, room3), roomAllocator.allocate(roomPaxIndex, 6));
+    }
+
+    @Test
+    void Should_ReturnMinimumOverflowCombination_When_NoExactCombinationExists() {
+        Room room1 = getSampleRoom(4, 10);
+        Room room2 = getSampleRoom(4, 10);
+        Room room3 = getSampleRoom(5, 10);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertEquals(Arrays.asList(room3, room1), roomAllocator.allocate(roomPaxIndex, 9));
+        assertEquals(Arrays.asList(room1, room2), roomAllocator.allocate(roomPaxIndex, 7));
+    }
+
+    @Test
+    void Should_PreferCheaperRooms_When_CombinationsHaveSamePaxCount() {
+        Room room1 = getSampleRoom(2, 50);
+        Room room2 = getSampleRoom(2, 20);
+        Room room3 = getSampleRoom(2, 30);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertEquals(Arrays.asList(room2, room3), roomAllocator.allocate(roomPaxIndex, 4));
+    }
+
+    @Test
+    void Should_ReturnEmptyList_When_CombinationExceedsMaxRooms() {
+        Room room1 = getSampleRoom(1, 10);
+        Room room2 = getSampleRoom(1, 10);
+        Room room3 = getSampleRoom(1, 10);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertTrue(new RoomAllocator(2).allocate(roomPaxIndex, 3).isEmpty());
+        assertEquals(3, roomAllocator.allocate(roomPaxIndex, 3).size());
+    }
+
+    @Test
+    void Should_ReturnFromCostOfExactOrExtraBucket_When_HotelHasRoomForPaxCount() {
+        HotelSummary hotelSummary = HotelSummary.of("hid-123", Arrays.asList(
+                new HotelRoomSummary("hid-123", 3, 2, 4000), new HotelRoomSummary("hid-123", 2, 1, 3000)));
+        assertEquals(OptionalLong.of(3000), roomAllocator.findFromCost(hotelSummary, 2));
+        assertEquals(OptionalLong.of(3000), roomAllocator.findFromCost(hotelSummary, 1));
+        assertEquals(OptionalLong.of(4000), roomAllocator.findFromCost(hotelSummary, 3));
+    }
+
+    @Test
+    void Should_ReturnCheapestCombinationCost_When_PaxCountNeedsMultipleRooms() {
+        HotelSummary hotelSummary = HotelSummary.of("hid-123", Arrays.asList(
+                new HotelRoomSummary("hid-123", 4, 1, 1000), new HotelRoomSummary("hid-123", 3, 2, 700)));
+        assertEquals(OptionalLong.of(1400), roomAllocator.findFromCost(hotelSummary, 6));
+        assertEquals(OptionalLong.of(1700), roomAllocator.findFromCost(hotelSummary, 7));
+        assertEquals(OptionalLong.of(2400), roomAllocator.findFromCost(hotelSummary, 10));
+    }
+
+    @Test
+    void Should_ReturnEmptyFromCost_When_HotelCanNotHostPaxCount() {
+        HotelSummary hotelSummary = HotelSummary.of("hid-123", Arrays.asList(
+                new HotelRoomSummary("hid-123", 1, 3, 1000)));
+        assertFalse(roomAllocator.findFromCost(hotelSummary, 4).isPresent());
+        assertFalse(new RoomAllocator(2).findFromCost(hotelSummary, 3).isPresent());
+        assertFalse(roomAllocator.findFromCost(HotelSummary.of("hid-123", Arrays.asList()), 1).isPresent());
+    }
+
+    private Room getSampleRoom(int paxCount, int cost) {
+        RoomCreateRequestDto roomCreateRequestDto = new RoomCreateRequestDto();
+        roomCreateRequestDto.setHotelId("hid-123");
+        roomCreateRequestDto.setPaxCount(paxCount);
+        roomCreateRequestDto.setPricePerNight(BigDecimal.valueOf(cost));
+        return new Room(roomCreateRequestDto, new RoomType(new RoomTypeCreateRequestDto("SINGLE", 0)));
+    }
+}
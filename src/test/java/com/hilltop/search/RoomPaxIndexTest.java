@@ -0,0 +1,46 @@
+package com.hilltop.search;
+
+import com.hilltop.domain.request.RoomCreateRequestDto;
+import com.hilltop.domain.request.RoomTypeCreateRequestDto;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomPaxIndexTest {
+
+    @Test
+    void Should_ReturnRoomsForExactPaxCount() {
+        Room room1 = getSampleRoom(2);
+        Room room2 = getSampleRoom(3);
+        Room room3 = getSampleRoom(2);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertEquals(Arrays.asList(room1, room3), roomPaxIndex.findByPaxCount(2));
+        assertTrue(roomPaxIndex.findByPaxCount(4).isEmpty());
+        assertEquals(Arrays.asList(room1, room2, room3), roomPaxIndex.getRooms());
+    }
+
+    @Test
+    void Should_OrderBucketsByCost() {
+        Room room1 = getSampleRoom(2);
+        room1.setCost(BigDecimal.valueOf(30));
+        Room room2 = getSampleRoom(2);
+        room2.setCost(BigDecimal.valueOf(10));
+        Room room3 = getSampleRoom(4);
+        RoomPaxIndex roomPaxIndex = RoomPaxIndex.of(Arrays.asList(room1, room2, room3));
+        assertArrayEquals(new int[]{2, 4}, roomPaxIndex.getPaxCounts());
+        assertEquals(Arrays.asList(room2, room1), roomPaxIndex.getRoomsByCost(0));
+    }
+
+    private Room getSampleRoom(int paxCount) {
+        RoomCreateRequestDto roomCreateRequestDto = new RoomCreateRequestDto();
+        roomCreateRequestDto.setHotelId("hid-123");
+        roomCreateRequestDto.setPaxCount(paxCount);
+        roomCreateRequestDto.setPricePerNight(BigDecimal.valueOf(20));
+        return new Room(roomCreateRequestDto, new RoomType(new RoomTypeCreateRequestDto("SINGLE", 5)));
+    }
+}
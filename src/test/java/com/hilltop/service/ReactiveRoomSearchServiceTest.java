@@ -0,0 +1,134 @@
+package com.hilltop.service;
+
+import com.hilltop.domain.response.RoomSearchResponseDto;
+import com.hilltop.exception.RoomServiceException;
+import com.hilltop.metrics.RoomSearchMetrics;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class ReactiveRoomSearchServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int CONCURRENCY = 2;
+
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private RoomRateService roomRateService;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveRoomSearchService reactiveRoomSearchService;
+    private final AtomicInteger searchedChunks = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        reactiveRoomSearchService = new ReactiveRoomSearchService(roomService, roomRateService,
+                new RoomSearchMetrics(meterRegistry), CHUNK_SIZE, CONCURRENCY, 4);
+        Room room = new Room("rid-1", 1, "hid-1", 2, new RoomType("rtid-1", "SINGLE", 10), List.of(),
+                BigDecimal.valueOf(110), BigDecimal.valueOf(100), 1, 1);
+        doAnswer(invocation -> {
+            List<String> hotelIds = invocation.getArgument(1);
+            Consumer<Map<String, List<Room>>> consumer = invocation.getArgument(3);
+            searchedChunks.incrementAndGet();
+            if (hotelIds.contains("hid-1")) {
+                Thread.sleep(100);
+            }
+            Map<String, List<Room>> roomsByHotelId = new LinkedHashMap<>();
+            hotelIds.forEach(hotelId -> roomsByHotelId.put(hotelId, List.of(room)));
+            consumer.accept(roomsByHotelId);
+            return (long) hotelIds.size();
+        }).when(roomService).searchRoomsForPaxCountAndHotelChunk(anyInt(), anyList(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactiveRoomSearchService.destroy();
+    }
+
+    @Test
+    void Should_EmitHotelsInOrder_When_LaterChunksCompleteFirst() {
+        List<String> hotelIds = getHotelIds(7);
+        List<RoomSearchResponseDto> roomSearchResponseDtoList = reactiveRoomSearchService
+                .searchRooms(2, hotelIds, 3, null).collectList().block();
+        assertEquals(hotelIds, roomSearchResponseDtoList.stream().map(RoomSearchResponseDto::getHotelId)
+                .collect(Collectors.toList()));
+        BigDecimal cost = roomSearchResponseDtoList.get(0).getRooms().get(0).getCost();
+        assertEquals(0, BigDecimal.valueOf(330).compareTo(cost));
+        assertEquals(4, searchedChunks.get());
+        assertEquals(7, meterRegistry.get("room.search.rooms.evaluated").summary().totalAmount());
+        verifyNoInteractions(roomRateService);
+    }
+
+    @Test
+    void Should_HoldBackRemainingChunks_When_SubscriberRequestsNoMore() throws InterruptedException {
+        List<String> hotelIds = getHotelIds(40);
+        DemandSubscriber subscriber = new DemandSubscriber();
+        reactiveRoomSearchService.searchRooms(2, hotelIds, 3, null).subscribe(subscriber);
+        Thread.sleep(300);
+        assertEquals(1, subscriber.received.get());
+        assertTrue(searchedChunks.get() < hotelIds.size() / CHUNK_SIZE);
+        subscriber.requestUnbounded();
+        Thread.sleep(300);
+        assertEquals(hotelIds.size(), subscriber.received.get());
+        assertEquals(hotelIds.size() / CHUNK_SIZE, searchedChunks.get());
+    }
+
+    @Test
+    void Should_SignalRoomServiceException_When_SearchingAChunkFailed() {
+        doThrow(new RoomServiceException("Failed")).when(roomService)
+                .searchRoomsForPaxCountAndHotelChunk(anyInt(), anyList(), any(), any());
+        var roomSearchResponseDtoFlux = reactiveRoomSearchService.searchRooms(2, getHotelIds(3), 3, null);
+        assertThrows(RoomServiceException.class, roomSearchResponseDtoFlux::blockLast);
+        assertEquals(0, meterRegistry.get("room.search.hotels").summary().count());
+    }
+
+    private List<String> getHotelIds(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "hid-" + i).collect(Collectors.toList());
+    }
+
+    /**
+     * Requests a single result until told to request the rest.
+     */
+    private static class DemandSubscriber extends BaseSubscriber<RoomSearchResponseDto> {
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+        }
+
+        @Override
+        protected void hookOnNext(RoomSearchResponseDto value) {
+            received.incrementAndGet();
+        }
+    }
+}
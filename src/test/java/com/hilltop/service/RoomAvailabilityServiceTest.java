@@ -0,0 +1,115 @@
+package com.hilltop.service;
+
+import com.hilltop.cache.RoomSearchResultCache;
+import com.hilltop.domain.StayNights;
+import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.RoomNotAvailableException;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import com.hilltop.repository.RoomOccupancyRepository;
+import com.hilltop.repository.RoomRepository;
+import com.hilltop.repository.RoomTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Occupies and releases rooms against the room_occupancy table of the migrations.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({RoomAvailabilityService.class, RoomSearchResultCache.class})
+class RoomAvailabilityServiceTest {
+
+    private static final StayNights NEW_YEAR_STAY = StayNights.of(LocalDate.of(2026, 12, 30),
+            LocalDate.of(2027, 1, 2));
+
+    @Autowired
+    private RoomAvailabilityService roomAvailabilityService;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+    @Autowired
+    private RoomOccupancyRepository roomOccupancyRepository;
+    @Autowired
+    private RoomSearchResultCache roomSearchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        RoomType roomType = roomTypeRepository.save(new RoomType("rtid-1", "SINGLE", 10));
+        for (int i = 1; i <= 3; i++) {
+            roomRepository.save(new Room("rid-" + i, i, "hid-1", 2, roomType, List.of(), BigDecimal.TEN,
+                    BigDecimal.TEN, i, i));
+        }
+        roomRepository.flush();
+    }
+
+    @Test
+    void Should_StoreOneRowPerYear_When_OccupyingRoomOverNewYear() {
+        roomAvailabilityService.occupyRoom("rid-1", NEW_YEAR_STAY);
+        assertEquals(2, roomOccupancyRepository.count());
+        assertEquals(Set.of("rid-1"), roomAvailabilityService.findOccupiedRoomIds(List.of("rid-1", "rid-2", "rid-3"),
+                StayNights.of(LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 5))));
+        assertEquals(Set.of(), roomAvailabilityService.findOccupiedRoomIds(List.of("rid-1", "rid-2", "rid-3"),
+                StayNights.of(LocalDate.of(2027, 1, 2), LocalDate.of(2027, 1, 5))));
+    }
+
+    @Test
+    void Should_ThrowRoomNotAvailableException_When_OccupyingOverlappingStay() {
+        roomAvailabilityService.occupyRoom("rid-2", NEW_YEAR_STAY);
+        StayNights overlappingStay = StayNights.of(LocalDate.of(2026, 12, 20), LocalDate.of(2026, 12, 31));
+        assertThrows(RoomNotAvailableException.class, () -> roomAvailabilityService.occupyRoom("rid-2",
+                overlappingStay));
+        roomAvailabilityService.occupyRoom("rid-2", StayNights.of(LocalDate.of(2026, 12, 20),
+                LocalDate.of(2026, 12, 30)));
+    }
+
+    @Test
+    void Should_FreeNights_When_ReleasingRoom() {
+        roomAvailabilityService.occupyRoom("rid-3", NEW_YEAR_STAY);
+        roomAvailabilityService.releaseRoom("rid-3", StayNights.of(LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 2)));
+        assertEquals(Set.of("rid-3"), roomAvailabilityService.findOccupiedRoomIds(List.of("rid-3"), NEW_YEAR_STAY));
+        assertEquals(Set.of(), roomAvailabilityService.findOccupiedRoomIds(List.of("rid-3"),
+                StayNights.of(LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 2))));
+    }
+
+    @Test
+    void Should_SearchAgain_When_RoomOfCachedSearchIsOccupiedOrReleased() {
+        AtomicInteger searchCount = new AtomicInteger();
+        searchStay(searchCount);
+        searchStay(searchCount);
+        roomAvailabilityService.occupyRoom("rid-1", NEW_YEAR_STAY);
+        searchStay(searchCount);
+        roomAvailabilityService.releaseRoom("rid-1", NEW_YEAR_STAY);
+        searchStay(searchCount);
+        assertEquals(3, searchCount.get());
+    }
+
+    @Test
+    void Should_ThrowInvalidRoomException_When_OccupyingUnknownRoom() {
+        assertThrows(InvalidRoomException.class, () -> roomAvailabilityService.occupyRoom("rid-0", NEW_YEAR_STAY));
+    }
+
+    private void searchStay(AtomicInteger searchCount) {
+        roomSearchResultCache.get(2, List.of("hid-1"), NEW_YEAR_STAY, () -> {
+            searchCount.incrementAndGet();
+            return Map.of();
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.hilltop.service;
+
+import com.hilltop.domain.StayNights;
+import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.model.Room;
+import com.hilltop.model.RoomType;
+import com.hilltop.pricing.NightlyRates;
+import com.hilltop.repository.RoomRateOverrideRepository;
+import com.hilltop.repository.RoomRepository;
+import com.hilltop.repository.RoomTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Overrides room rates against the room_rate_override table of the migrations.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(RoomRateService.class)
+class RoomRateServiceTest {
+
+    private static final LocalDate CHRISTMAS_EVE = LocalDate.of(2026, 12, 24);
+
+    @Autowired
+    private RoomRateService roomRateService;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+    @Autowired
+    private RoomRateOverrideRepository roomRateOverrideRepository;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        RoomType roomType = roomTypeRepository.save(new RoomType("rtid-1", "SINGLE", 10));
+        room = roomRepository.saveAndFlush(new Room("rid-1", 1, "hid-1", 2, roomType, List.of(),
+                BigDecimal.valueOf(110), BigDecimal.valueOf(100), 1, 1));
+    }
+
+    @Test
+    void Should_PriceOverriddenNightsWithMarkup_When_GettingNightlyRates() {
+        roomRateService.setRateOverride("rid-1", StayNights.of(CHRISTMAS_EVE, CHRISTMAS_EVE.plusDays(2)),
+                BigDecimal.valueOf(200));
+        StayNights stayNights = StayNights.of(CHRISTMAS_EVE.minusDays(1), CHRISTMAS_EVE.plusDays(3));
+        Map<String, NightlyRates> nightlyRates = roomRateService.getNightlyRates(List.of(room), stayNights);
+        assertEquals(2, nightlyRates.get("rid-1").size());
+        assertEquals(110_00 + 220_00 + 220_00 + 110_00, nightlyRates.get("rid-1").stayTotal(room.getCostMinorUnits(),
+                stayNights.getCheckIn().toEpochDay(), stayNights.getNightCount()));
+    }
+
+    @Test
+    void Should_ReplaceOverlappingOverrides_When_OverridingRateAgain() {
+        roomRateService.setRateOverride("rid-1", StayNights.of(CHRISTMAS_EVE, CHRISTMAS_EVE.plusDays(3)),
+                BigDecimal.valueOf(200));
+        roomRateService.setRateOverride("rid-1", StayNights.of(CHRISTMAS_EVE.plusDays(1), CHRISTMAS_EVE.plusDays(5)),
+                BigDecimal.valueOf(300));
+        assertEquals(5, roomRateOverrideRepository.count());
+        roomRateService.removeRateOverrides("rid-1", StayNights.of(CHRISTMAS_EVE, CHRISTMAS_EVE.plusDays(2)));
+        assertEquals(3, roomRateOverrideRepository.count());
+    }
+
+    @Test
+    void Should_ThrowInvalidRoomException_When_OverridingRateOfUnknownRoom() {
+        StayNights stayNights = StayNights.of(CHRISTMAS_EVE, CHRISTMAS_EVE.plusDays(1));
+        BigDecimal pricePerNight = BigDecimal.TEN;
+        assertThrows(InvalidRoomException.class, () -> roomRateService.setRateOverride("rid-0", stayNights,
+                pricePerNight));
+    }
+}
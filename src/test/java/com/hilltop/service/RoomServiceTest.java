@@ -1,30 +1,58 @@
 package com.hilltop.service;
 
+import com.hilltop.cache.RoomInventoryCache;
+import com.hilltop.cache.RoomSearchResultCache;
+import com.hilltop.domain.RoomPageCursor;
+import com.hilltop.domain.StayNights;
+import com.hilltop.domain.request.BulkRoomRequestDto;
 import com.hilltop.domain.request.HotelIdRequestDto;
 import com.hilltop.domain.request.RoomCreateRequestDto;
 import com.hilltop.domain.request.RoomTypeCreateRequestDto;
+import com.hilltop.domain.response.BulkRoomResponseDto;
+import com.hilltop.domain.response.HotelSummaryResponseDto;
 import com.hilltop.domain.response.RoomCreateResponseDto;
+import com.hilltop.enums.BulkRoomResultStatus;
+import com.hilltop.exception.InvalidBulkRoomRequestException;
 import com.hilltop.exception.InvalidRoomException;
+import com.hilltop.exception.InvalidRoomTypeException;
 import com.hilltop.exception.RoomServiceException;
+import com.hilltop.metrics.RoomSearchMetrics;
+import com.hilltop.model.HotelRoomSummary;
+import com.hilltop.model.HotelRoomVersion;
 import com.hilltop.model.Room;
+import com.hilltop.model.RoomImageUrlView;
 import com.hilltop.model.RoomType;
+import com.hilltop.model.RoomView;
+import com.hilltop.repository.HotelRoomSummaryRepository;
+import com.hilltop.repository.HotelRoomVersionRepository;
 import com.hilltop.repository.RoomRepository;
+import com.hilltop.search.HotelSearchExecutor;
+import com.hilltop.search.RoomAllocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -38,14 +66,26 @@ class RoomServiceTest {
     private RoomRepository roomRepository;
     @Mock
     private RoomTypeService roomTypeService;
+    @Mock
+    private RoomAvailabilityService roomAvailabilityService;
+    @Mock
+    private HotelRoomVersionRepository hotelRoomVersionRepository;
+    @Mock
+    private HotelRoomSummaryRepository hotelRoomSummaryRepository;
 
+    private RoomInventoryCache roomInventoryCache;
+    private HotelSearchExecutor hotelSearchExecutor;
+    private SimpleMeterRegistry meterRegistry;
     private HotelIdRequestDto hotelIdRequestDto;
 
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        roomService = new RoomService(roomRepository, roomTypeService);
+        roomInventoryCache = new RoomInventoryCache(100, 60);
+        hotelSearchExecutor = new HotelSearchExecutor(2, 64, 2000);
+        meterRegistry = new SimpleMeterRegistry();
+        roomService = createRoomService(new RoomSearchResultCache(100, 0));
 
         hotelIdRequestDto = new HotelIdRequestDto();
         hotelIdRequestDto.setHotelIds(Arrays.asList("hid-123", "hid-456"));
@@ -53,15 +93,20 @@ class RoomServiceTest {
 
     @AfterEach
     void tearDown() {
+        hotelSearchExecutor.destroy();
     }
 
     @Test
     void Should_SaveRoom() {
         var roomCreateRequestDto = getSampleRoomCreateResponseDto();
         when(roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId())).thenReturn(getSampleRoomType());
-        when(roomService.saveRoom(roomCreateRequestDto)).thenReturn(any(RoomCreateResponseDto.class));
         roomService.saveRoom(roomCreateRequestDto);
-        verify(roomRepository, times(1)).save(any(Room.class));
+        InOrder inOrder = inOrder(hotelRoomVersionRepository, roomRepository, hotelRoomSummaryRepository);
+        inOrder.verify(hotelRoomVersionRepository, times(1)).incrementRoomVersion(
+                eq(roomCreateRequestDto.getHotelId()), anyLong());
+        inOrder.verify(roomRepository, times(1)).save(any(Room.class));
+        inOrder.verify(hotelRoomSummaryRepository, times(1)).refreshBucket(roomCreateRequestDto.getHotelId(),
+                roomCreateRequestDto.getPaxCount());
     }
 
     @Test
@@ -69,17 +114,59 @@ class RoomServiceTest {
         var room = getSampleRoom();
         RoomCreateRequestDto sampleRoomCreateResponseDto = getSampleRoomCreateResponseDto();
         when(roomTypeService.getRoomType(sampleRoomCreateResponseDto.getRoomTypeId())).thenReturn(getSampleRoomType());
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
-        when(roomService.saveRoom(sampleRoomCreateResponseDto)).thenReturn(any(RoomCreateResponseDto.class));
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(room));
         roomService.updateRoom(ROOM_ID, sampleRoomCreateResponseDto);
         verify(roomRepository, times(1)).save(any(Room.class));
+        verify(hotelRoomVersionRepository, times(1)).incrementRoomVersion(eq(room.getHotelId()), anyLong());
+    }
+
+    @Test
+    void Should_IncrementRoomVersionsInHotelIdOrder_When_MovingRoomToAnotherHotel() {
+        var room = getSampleRoom();
+        room.setHotelId("hid-b");
+        RoomCreateRequestDto sampleRoomCreateResponseDto = getSampleRoomCreateResponseDto();
+        sampleRoomCreateResponseDto.setHotelId("hid-a");
+        when(roomTypeService.getRoomType(sampleRoomCreateResponseDto.getRoomTypeId())).thenReturn(getSampleRoomType());
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(room));
+        roomService.updateRoom(ROOM_ID, sampleRoomCreateResponseDto);
+        InOrder inOrder = inOrder(hotelRoomVersionRepository, roomRepository);
+        inOrder.verify(hotelRoomVersionRepository, times(1)).incrementRoomVersion(eq("hid-a"), anyLong());
+        inOrder.verify(hotelRoomVersionRepository, times(1)).incrementRoomVersion(eq("hid-b"), anyLong());
+        inOrder.verify(roomRepository, times(1)).save(any(Room.class));
+    }
+
+    @Test
+    void Should_RefreshPreviousAndNewSummaryBuckets_When_UpdatingRoomPaxCount() {
+        var room = getSampleRoom();
+        room.setPaxCount(3);
+        RoomCreateRequestDto sampleRoomCreateResponseDto = getSampleRoomCreateResponseDto();
+        when(roomTypeService.getRoomType(sampleRoomCreateResponseDto.getRoomTypeId())).thenReturn(getSampleRoomType());
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(room));
+        roomService.updateRoom(ROOM_ID, sampleRoomCreateResponseDto);
+        verify(hotelRoomSummaryRepository, times(1)).refreshBucket(room.getHotelId(), 3);
+        verify(hotelRoomSummaryRepository, times(1)).refreshBucket(room.getHotelId(),
+                sampleRoomCreateResponseDto.getPaxCount());
+    }
+
+    @Test
+    void Should_ReturnInitialHotelRoomVersion_When_HotelHasNoRoomWrites() {
+        when(hotelRoomVersionRepository.findById(HOTEL_ID)).thenReturn(Optional.empty());
+        HotelRoomVersion hotelRoomVersion = roomService.getHotelRoomVersion(HOTEL_ID);
+        assertEquals(0, hotelRoomVersion.getRoomVersion());
+        assertEquals(0, hotelRoomVersion.getUpdatedAt());
+    }
+
+    @Test
+    void Should_ThrowInvalidRoomException_When_GettingUpdatedAtOfUnknownRoom() {
+        when(roomRepository.findUpdatedAtById(ROOM_ID)).thenReturn(Optional.empty());
+        assertThrows(InvalidRoomException.class, () -> roomService.getRoomUpdatedAt(ROOM_ID));
     }
 
     @Test
     void Should_ThrowException_When_UpdatingRoom() {
         var room = getSampleRoom();
         RoomCreateRequestDto sampleRoomCreateResponseDto = getSampleRoomCreateResponseDto();
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(room));
         when(roomTypeService.getRoomType(sampleRoomCreateResponseDto.getRoomTypeId())).thenReturn(getSampleRoomType());
         when(roomRepository.save(any(Room.class))).thenThrow(new DataAccessException("ERROR") {
         });
@@ -100,17 +187,27 @@ class RoomServiceTest {
         assertEquals("Saving room info into database was failed.", roomServiceException.getMessage());
     }
 
+    @Test
+    void Should_ThrowException_When_RefreshingSummaryOfSavedRoomFailed() {
+        var roomCreateRequestDto = getSampleRoomCreateResponseDto();
+        when(roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId())).thenReturn(getSampleRoomType());
+        doThrow(new DataAccessException("ERROR") {
+        }).when(hotelRoomSummaryRepository).refreshBucket(anyString(), anyInt());
+        assertThrows(RoomServiceException.class, () -> roomService.saveRoom(roomCreateRequestDto));
+        verify(roomRepository, times(1)).save(any(Room.class));
+    }
+
     @Test
     void Should_ReturnRoom_When_RoomIdProvided() {
         var room = getSampleRoom();
         room.setId(ROOM_ID);
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(room));
         assertEquals(room, roomService.getRoom(ROOM_ID));
     }
 
     @Test
     void Should_ThrowInvalidRoomException_When_InvalidRoomIdProvided() {
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.empty());
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.empty());
         InvalidRoomException invalidRoomException = assertThrows(InvalidRoomException.class, () -> roomService.getRoom(ROOM_ID));
         assertEquals("No room found for id: " + ROOM_ID, invalidRoomException.getMessage());
     }
@@ -118,7 +215,7 @@ class RoomServiceTest {
 
     @Test
     void Should_ThrowException_When_GettingRoomById() {
-        when(roomRepository.findById(ROOM_ID)).thenThrow(new DataAccessException("ERROR") {
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenThrow(new DataAccessException("ERROR") {
         });
         RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
                 roomService.getRoom(ROOM_ID));
@@ -128,16 +225,18 @@ class RoomServiceTest {
     @Test
     void Should_DeleteRoom() {
         Room sampleRoom = getSampleRoom();
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(sampleRoom));
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(sampleRoom));
         roomService.deleteRoom(ROOM_ID);
         verify(roomRepository, times(1)).delete(sampleRoom);
+        verify(hotelRoomSummaryRepository, times(1)).refreshBucket(sampleRoom.getHotelId(),
+                sampleRoom.getPaxCount());
     }
 
     @Test
     void Should_ThrowRoomServiceException_When_DeletingARoomById() {
         Room sampleRoom = getSampleRoom();
         sampleRoom.setId(ROOM_ID);
-        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(sampleRoom));
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(sampleRoom));
         doThrow(new DataAccessException("ERROR") {
         }).when(roomRepository).delete(sampleRoom);
         RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
@@ -159,21 +258,56 @@ class RoomServiceTest {
     @Test
     void Should_ReturnRoomPageByHotelId_WhenProvidingRequiredFields() {
         Pageable pageable = PageRequest.of(0, 2, Sort.by("updatedAt").descending());
-        roomService.getRoomPageByHotelId(pageable, HOTEL_ID);
-        verify(roomRepository, times(1)).findByHotelId(pageable, HOTEL_ID);
+        when(roomRepository.findRoomViewsByHotelId(HOTEL_ID, pageable))
+                .thenReturn(new PageImpl<>(List.of(getSampleRoomView()), pageable, 1));
+        when(roomRepository.findImageUrlsByRoomIdIn(Set.of(ROOM_ID)))
+                .thenReturn(List.of(getImageUrlView("https://cdn/1.png"), getImageUrlView("https://cdn/2.png")));
+        Page<RoomView> roomPage = roomService.getRoomPageByHotelId(pageable, HOTEL_ID);
+        assertEquals(List.of("https://cdn/1.png", "https://cdn/2.png"), roomPage.getContent().get(0).getImageUrls());
+        verify(roomRepository, never()).findWithDetailsById(ROOM_ID);
     }
 
     @Test
     void Should_ThrowRoomServiceException_When_GettingRoomsByHotelIdAndPagebale() {
         Pageable pageable = PageRequest.of(0, 2, Sort.by("updatedAt").descending());
         doThrow(new DataAccessException("ERROR") {
-        }).when(roomRepository).findByHotelId(pageable, HOTEL_ID);
+        }).when(roomRepository).findRoomViewsByHotelId(HOTEL_ID, pageable);
         RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
                 roomService.getRoomPageByHotelId(pageable, HOTEL_ID));
         assertEquals("Getting room list by hotel id " + HOTEL_ID + " from database was failed.",
                 roomServiceException.getMessage());
     }
 
+    @Test
+    void Should_SeekAfterCursor_When_GettingRoomSliceByHotelIdWithCursor() {
+        Pageable pageable = PageRequest.of(0, 2);
+        when(roomRepository.findRoomViewsByHotelIdAfter(HOTEL_ID, 100L, ROOM_ID, pageable))
+                .thenReturn(new SliceImpl<>(List.of(getSampleRoomView()), pageable, true));
+        assertEquals(1, roomService.getRoomSliceByHotelId(HOTEL_ID, new RoomPageCursor(100L, ROOM_ID), 2)
+                .getNumberOfElements());
+        verify(roomRepository, never()).findFirstRoomViewsByHotelId(HOTEL_ID, pageable);
+    }
+
+    @Test
+    void Should_ReturnFirstSlice_When_GettingRoomSliceByHotelIdWithoutCursor() {
+        Pageable pageable = PageRequest.of(0, 2);
+        when(roomRepository.findFirstRoomViewsByHotelId(HOTEL_ID, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        roomService.getRoomSliceByHotelId(HOTEL_ID, null, 2);
+        verify(roomRepository, times(1)).findFirstRoomViewsByHotelId(HOTEL_ID, pageable);
+        verify(roomRepository, never()).findImageUrlsByRoomIdIn(any());
+        verify(roomRepository, never()).countByHotelId(HOTEL_ID);
+    }
+
+    @Test
+    void Should_ThrowRoomServiceException_When_GettingRoomSliceByHotelIdIsFailed() {
+        doThrow(new DataAccessException("ERROR") {
+        }).when(roomRepository).findFirstRoomViewsByHotelId(HOTEL_ID, PageRequest.of(0, 2));
+        RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                roomService.getRoomSliceByHotelId(HOTEL_ID, null, 2));
+        assertEquals("Getting room list by hotel id " + HOTEL_ID + " from database was failed.",
+                roomServiceException.getMessage());
+    }
 
     @Test
     void Should_Return_RoomsForPaxCountAndHotelIds() {
@@ -183,14 +317,14 @@ class RoomServiceTest {
         room1.setHotelId("hid-123");
         room1.setPaxCount(2);
         rooms1.add(room1);
-        Mockito.when(roomRepository.findByHotelId("hid-123")).thenReturn(rooms1);
         List<Room> rooms2 = new ArrayList<>();
         Room room2 = getSampleRoom();
         room2.setId("rid-2");
         room2.setHotelId("hid-456");
         room2.setPaxCount(2);
         rooms2.add(room2);
-        Mockito.when(roomRepository.findByHotelId("hid-456")).thenReturn(rooms2);
+        Mockito.when(roomRepository.findRoomsWithDetailsByHotelIdIn(hotelIdRequestDto.getHotelIds()))
+                .thenReturn(Arrays.asList(room1, room2));
         Map<String, List<Room>> expected = new HashMap<>();
         expected.put("hid-123", rooms1);
         List<Room> searchList = new ArrayList<>();
@@ -198,6 +332,151 @@ class RoomServiceTest {
         expected.put("hid-456", searchList);
         Map<String, List<Room>> result = roomService.getRoomsForPaxCountAndHotelIds(2, hotelIdRequestDto.getHotelIds());
         assertEquals(expected, result);
+        assertEquals(2, meterRegistry.get("room.search.hotels").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("room.search.rooms.evaluated").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("room.search.stage").tag("stage", "index").timer().count());
+    }
+
+    @Test
+    void Should_LoadRoomsInBatches_When_SearchingManyHotels() {
+        List<String> hotelIds = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            hotelIds.add("hid-" + i);
+        }
+        roomService.getRoomsForPaxCountAndHotelIds(2, hotelIds);
+        verify(roomRepository, times(3)).findRoomsWithDetailsByHotelIdIn(anyList());
+        verify(roomRepository, never()).findByHotelId(anyString());
+    }
+
+    @Test
+    void Should_ServeRoomsFromCache_When_SearchingSameHotelsAgain() {
+        Room room = getSampleRoom();
+        room.setHotelId("hid-123");
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(anyList())).thenReturn(List.of(room));
+        roomService.getRoomsForPaxCountAndHotelIds(2, hotelIdRequestDto.getHotelIds());
+        roomService.getRoomsForPaxCountAndHotelIds(2, hotelIdRequestDto.getHotelIds());
+        assertEquals(room, roomService.getRoomsByHotelId("hid-123").get(0));
+        verify(roomRepository, times(1)).findRoomsWithDetailsByHotelIdIn(anyList());
+        assertEquals(2, roomInventoryCache.getStats().missCount());
+        assertEquals(3, roomInventoryCache.getStats().hitCount());
+    }
+
+    @Test
+    void Should_ServeCachedSearchResultInHotelOrder_When_SearchingSameHotelsInAnotherOrder() {
+        RoomService cachingRoomService = createRoomService(new RoomSearchResultCache(100, 60_000));
+        Room room1 = getSampleRoom();
+        room1.setHotelId("hid-123");
+        Room room2 = getSampleRoom();
+        room2.setHotelId("hid-456");
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(anyList())).thenReturn(List.of(room1, room2));
+        cachingRoomService.getRoomsForPaxCountAndHotelIds(2, List.of("hid-123", "hid-456"));
+        Map<String, List<Room>> result = cachingRoomService.getRoomsForPaxCountAndHotelIds(2,
+                List.of("hid-456", "hid-123", "hid-456"));
+        assertEquals(List.of("hid-456", "hid-123"), new ArrayList<>(result.keySet()));
+        assertEquals(List.of(room2), result.get("hid-456"));
+        assertEquals(1, meterRegistry.get("room.search.hotels").summary().count());
+        assertEquals(2, roomInventoryCache.getStats().requestCount());
+    }
+
+    @Test
+    void Should_SearchAgain_When_SavingRoomOfSearchedHotel() {
+        RoomService cachingRoomService = createRoomService(new RoomSearchResultCache(100, 60_000));
+        var roomCreateRequestDto = getSampleRoomCreateResponseDto();
+        when(roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId())).thenReturn(getSampleRoomType());
+        cachingRoomService.getRoomsForPaxCountAndHotelIds(2, List.of(HOTEL_ID));
+        cachingRoomService.saveRoom(roomCreateRequestDto);
+        cachingRoomService.getRoomsForPaxCountAndHotelIds(2, List.of(HOTEL_ID));
+        verify(roomRepository, times(2)).findRoomsWithDetailsByHotelIdIn(List.of(HOTEL_ID));
+        assertEquals(2, meterRegistry.get("room.search.hotels").summary().count());
+    }
+
+    @Test
+    void Should_InvalidateCachedRooms_When_SavingRoom() {
+        var roomCreateRequestDto = getSampleRoomCreateResponseDto();
+        when(roomTypeService.getRoomType(roomCreateRequestDto.getRoomTypeId())).thenReturn(getSampleRoomType());
+        roomService.getRoomsByHotelId(HOTEL_ID);
+        roomService.saveRoom(roomCreateRequestDto);
+        roomService.getRoomsByHotelId(HOTEL_ID);
+        verify(roomRepository, times(2)).findRoomsWithDetailsByHotelIdIn(List.of(HOTEL_ID));
+    }
+
+    @Test
+    void Should_InvalidateCachedRooms_When_DeletingRoom() {
+        Room sampleRoom = getSampleRoom();
+        when(roomRepository.findWithDetailsById(ROOM_ID)).thenReturn(Optional.of(sampleRoom));
+        roomService.getRoomsByHotelId(HOTEL_ID);
+        roomService.deleteRoom(ROOM_ID);
+        roomService.getRoomsByHotelId(HOTEL_ID);
+        verify(roomRepository, times(2)).findRoomsWithDetailsByHotelIdIn(List.of(HOTEL_ID));
+    }
+
+    @Test
+    void Should_StreamRoomsInHotelOrder_When_StreamingRoomsForPaxCountAndHotelIds() {
+        Room room1 = getSampleRoom();
+        room1.setHotelId("hid-123");
+        Room room2 = getSampleRoom();
+        room2.setHotelId("hid-456");
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(anyList())).thenReturn(Arrays.asList(room2, room1));
+        List<String> streamedHotelIds = new ArrayList<>();
+        roomService.streamRoomsForPaxCountAndHotelIds(2, hotelIdRequestDto.getHotelIds(), null,
+                roomsByHotelId -> streamedHotelIds.addAll(roomsByHotelId.keySet()));
+        assertEquals(hotelIdRequestDto.getHotelIds(), streamedHotelIds);
+    }
+
+    @Test
+    void Should_LeaveOutOccupiedRooms_When_SearchingWithStayNights() {
+        Room room1 = getSampleRoom();
+        room1.setId("rid-1");
+        room1.setHotelId("hid-123");
+        Room room2 = getSampleRoom();
+        room2.setId("rid-2");
+        room2.setHotelId("hid-123");
+        room2.setPaxCount(3);
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(anyList())).thenReturn(Arrays.asList(room1, room2));
+        var stayNights = StayNights.of(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 20));
+        when(roomAvailabilityService.findOccupiedRoomIds(anyCollection(), eq(stayNights))).thenReturn(Set.of("rid-1"));
+        Map<String, List<Room>> result = roomService.getRoomsForPaxCountAndHotelIds(2,
+                hotelIdRequestDto.getHotelIds(), stayNights);
+        assertEquals(Map.of("hid-123", List.of(room2)), result);
+        assertEquals(Map.of("hid-123", List.of(room1)),
+                roomService.getRoomsForPaxCountAndHotelIds(2, hotelIdRequestDto.getHotelIds()));
+        verify(roomAvailabilityService, times(1)).findOccupiedRoomIds(anyCollection(), any());
+    }
+
+    @Test
+    void Should_ReturnHostingHotelSummariesInHotelOrder_When_SearchingHotelSummaries() {
+        when(hotelRoomSummaryRepository.findByHotelIdIn(List.of("hid-789", "hid-123", "hid-456")))
+                .thenReturn(List.of(new HotelRoomSummary("hid-456", 2, 1, 3000),
+                        new HotelRoomSummary("hid-123", 1, 1, 1000),
+                        new HotelRoomSummary("hid-789", 3, 2, 5000)));
+        List<HotelSummaryResponseDto> result = roomService.getHotelSummariesForPaxCount(2,
+                List.of("hid-789", "hid-123", "hid-456", "hid-789"), 3);
+        assertEquals(2, result.size());
+        assertEquals("hid-789", result.get(0).getHotelId());
+        assertEquals(0, BigDecimal.valueOf(150).compareTo(result.get(0).getFromCost()));
+        assertEquals(6, result.get(0).getTotalPaxCapacity());
+        assertEquals("hid-456", result.get(1).getHotelId());
+        assertEquals(0, BigDecimal.valueOf(90).compareTo(result.get(1).getFromCost()));
+        verify(roomRepository, never()).findRoomsWithDetailsByHotelIdIn(anyCollection());
+    }
+
+    @Test
+    void Should_ThrowRoomServiceException_When_SearchingHotelSummariesIsFailed() {
+        when(hotelRoomSummaryRepository.findByHotelIdIn(anyCollection())).thenThrow(new DataAccessException("ERROR") {
+        });
+        List<String> hotelIds = hotelIdRequestDto.getHotelIds();
+        assertThrows(RoomServiceException.class, () -> roomService.getHotelSummariesForPaxCount(2, hotelIds, 1));
+    }
+
+    @Test
+    void Should_ThrowRoomServiceException_When_GettingRoomsForPaxCountAndHotelIds() {
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(anyList())).thenThrow(new DataAccessException("ERROR") {
+        });
+        List<String> hotelIds = hotelIdRequestDto.getHotelIds();
+        RoomServiceException roomServiceException = assertThrows(RoomServiceException.class, () ->
+                roomService.getRoomsForPaxCountAndHotelIds(2, hotelIds));
+        assertEquals("Failed to get room list by hotel ids and pax count from database.",
+                roomServiceException.getMessage());
     }
 
     @Test
@@ -240,11 +519,131 @@ class RoomServiceTest {
         room4.setId("4");
         room4.setPaxCount(5);
         roomSet.add(room4);
-        List<Room> result = roomService.findMultipleRoomsForPaxCount(room3, roomSet, paxCount);
+        List<Room> result = roomService.findMultipleRoomsForPaxCount(roomSet, paxCount);
         List<Room> expected = Arrays.asList(room3, room1);
         assertEquals(expected, result);
     }
 
+    @Test
+    void Should_Return_MultipleRoomsForPaxCount_When_GreedyCombinationMisses() {
+        var room1 = getSampleRoom();
+        room1.setId("1");
+        room1.setPaxCount(4);
+        var room2 = getSampleRoom();
+        room2.setId("2");
+        room2.setPaxCount(3);
+        var room3 = getSampleRoom();
+        room3.setId("3");
+        room3.setPaxCount(3);
+        var roomSet = new HashSet<>(Arrays.asList(room1, room2, room3));
+        List<Room> result = roomService.findMultipleRoomsForPaxCount(roomSet, 6);
+        assertEquals(2, result.size());
+        assertEquals(6, result.stream().mapToInt(Room::getPaxCount).sum());
+    }
+
+    @Test
+    void Should_CombineManySmallRooms_When_SearchingLargePaxCount() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Room room = getSampleRoom();
+            room.setId("rid-" + i);
+            room.setHotelId(HOTEL_ID);
+            room.setPaxCount(i < 4 ? 2 : 1);
+            rooms.add(room);
+        }
+        when(roomRepository.findRoomsWithDetailsByHotelIdIn(List.of(HOTEL_ID))).thenReturn(rooms);
+        Map<String, List<Room>> result = roomService.getRoomsForPaxCountAndHotelIds(10, List.of(HOTEL_ID));
+        assertEquals(6, result.get(HOTEL_ID).size());
+        assertEquals(10, result.get(HOTEL_ID).stream().mapToInt(Room::getPaxCount).sum());
+    }
+
+    @Test
+    void Should_SaveRoomsInChunks_When_SavingRoomsInBulk() {
+        RoomType roomType = getSampleRoomType();
+        when(roomTypeService.getRoomType("rtid-gea34-fge3")).thenReturn(roomType);
+        Room existingRoom = getSampleRoom();
+        existingRoom.setId(ROOM_ID);
+        when(roomRepository.findAllById(Set.of(ROOM_ID))).thenReturn(List.of(existingRoom));
+
+        BulkRoomRequestDto updateRow = getSampleBulkRoomRequestDto();
+        updateRow.setId(ROOM_ID);
+        updateRow.setPaxCount(4);
+        BulkRoomResponseDto bulkRoomResponseDto = roomService.saveRooms(Arrays.asList(getSampleBulkRoomRequestDto(),
+                updateRow, getSampleBulkRoomRequestDto()));
+
+        assertEquals(2, bulkRoomResponseDto.getCreatedCount());
+        assertEquals(1, bulkRoomResponseDto.getUpdatedCount());
+        assertEquals(0, bulkRoomResponseDto.getFailedCount());
+        assertEquals(ROOM_ID, bulkRoomResponseDto.getResults().get(1).getId());
+        assertEquals(4, existingRoom.getPaxCount());
+        verify(roomRepository, times(2)).saveAll(anyList());
+        verify(roomTypeService, times(1)).getRoomType("rtid-gea34-fge3");
+    }
+
+    @Test
+    void Should_ReturnFailedRows_When_SavingInvalidRoomsInBulk() {
+        when(roomTypeService.getRoomType("rtid-gea34-fge3")).thenReturn(getSampleRoomType());
+        when(roomTypeService.getRoomType("rtid-invalid")).thenThrow(new InvalidRoomTypeException("ERROR"));
+        BulkRoomRequestDto missingFieldRow = getSampleBulkRoomRequestDto();
+        missingFieldRow.setRoomNumber(0);
+        BulkRoomRequestDto invalidRoomTypeRow = getSampleBulkRoomRequestDto();
+        invalidRoomTypeRow.setRoomTypeId("rtid-invalid");
+        BulkRoomRequestDto invalidRoomIdRow = getSampleBulkRoomRequestDto();
+        invalidRoomIdRow.setId(ROOM_ID);
+
+        BulkRoomResponseDto bulkRoomResponseDto = roomService.saveRooms(Arrays.asList(missingFieldRow, null,
+                invalidRoomTypeRow, invalidRoomIdRow, getSampleBulkRoomRequestDto()));
+
+        assertEquals(1, bulkRoomResponseDto.getCreatedCount());
+        assertEquals(4, bulkRoomResponseDto.getFailedCount());
+        assertEquals("Invalid room type.", bulkRoomResponseDto.getResults().get(2).getMessage());
+        assertEquals(BulkRoomResultStatus.CREATED, bulkRoomResponseDto.getResults().get(4).getStatus());
+    }
+
+    @Test
+    void Should_FailChunkRows_When_SavingBulkChunkIsFailed() {
+        when(roomTypeService.getRoomType("rtid-gea34-fge3")).thenReturn(getSampleRoomType());
+        when(roomRepository.saveAll(anyList())).thenThrow(new DataAccessException("ERROR") {
+        }).thenReturn(List.of());
+        BulkRoomResponseDto bulkRoomResponseDto = roomService.saveRooms(Arrays.asList(getSampleBulkRoomRequestDto(),
+                getSampleBulkRoomRequestDto(), getSampleBulkRoomRequestDto()));
+        assertEquals(2, bulkRoomResponseDto.getFailedCount());
+        assertEquals(1, bulkRoomResponseDto.getCreatedCount());
+    }
+
+    @Test
+    void Should_FailChunkRows_When_GettingExistingRoomsOfBulkChunkIsFailed() {
+        when(roomTypeService.getRoomType("rtid-gea34-fge3")).thenReturn(getSampleRoomType());
+        BulkRoomRequestDto updateRow = getSampleBulkRoomRequestDto();
+        updateRow.setId(ROOM_ID);
+        when(roomRepository.findAllById(anyCollection())).thenThrow(new DataAccessException("ERROR") {
+        });
+        BulkRoomResponseDto bulkRoomResponseDto = roomService.saveRooms(Arrays.asList(getSampleBulkRoomRequestDto(),
+                updateRow, getSampleBulkRoomRequestDto()));
+        assertEquals(2, bulkRoomResponseDto.getFailedCount());
+        assertEquals(1, bulkRoomResponseDto.getCreatedCount());
+        assertEquals(BulkRoomResultStatus.FAILED, bulkRoomResponseDto.getResults().get(1).getStatus());
+        assertEquals(ROOM_ID, bulkRoomResponseDto.getResults().get(1).getId());
+        verify(roomRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void Should_ThrowInvalidBulkRoomRequestException_When_RowsExceedLimit() {
+        List<BulkRoomRequestDto> rows = Collections.nCopies(6, getSampleBulkRoomRequestDto());
+        assertThrows(InvalidBulkRoomRequestException.class, () -> roomService.saveRooms(rows));
+        verify(roomRepository, never()).saveAll(anyList());
+    }
+
+    private BulkRoomRequestDto getSampleBulkRoomRequestDto() {
+        BulkRoomRequestDto bulkRoomRequestDto = new BulkRoomRequestDto();
+        bulkRoomRequestDto.setRoomNumber(1);
+        bulkRoomRequestDto.setHotelId(HOTEL_ID);
+        bulkRoomRequestDto.setRoomTypeId("rtid-gea34-fge3");
+        bulkRoomRequestDto.setPaxCount(2);
+        bulkRoomRequestDto.setPricePerNight(BigDecimal.valueOf(20));
+        return bulkRoomRequestDto;
+    }
+
     private RoomCreateRequestDto getSampleRoomCreateResponseDto() {
         RoomCreateRequestDto roomCreateResponseDto = new RoomCreateRequestDto();
         roomCreateResponseDto.setHotelId(HOTEL_ID);
@@ -255,6 +654,13 @@ class RoomServiceTest {
         return roomCreateResponseDto;
     }
 
+    private RoomService createRoomService(RoomSearchResultCache roomSearchResultCache) {
+        return new RoomService(roomRepository, roomTypeService, roomInventoryCache, roomSearchResultCache,
+                new RoomAllocator(Byte.MAX_VALUE), hotelSearchExecutor, roomAvailabilityService, hotelRoomVersionRepository,
+                hotelRoomSummaryRepository, TransactionOperations.withoutTransaction(),
+                new RoomSearchMetrics(meterRegistry), 2, 5);
+    }
+
     private Room getSampleRoom() {
         return new Room(getSampleRoomCreateResponseDto(), getSampleRoomType());
     }
@@ -262,4 +668,22 @@ class RoomServiceTest {
     private RoomType getSampleRoomType() {
         return new RoomType(new RoomTypeCreateRequestDto("rtid-vagae", 5));
     }
-}
\ No newline at end of file
+
+    private RoomView getSampleRoomView() {
+        return new RoomView(ROOM_ID, 1, HOTEL_ID, 2, "SINGLE", 2200, 100L);
+    }
+
+    private RoomImageUrlView getImageUrlView(String imageUrl) {
+        return new RoomImageUrlView() {
+            @Override
+            public String getRoomId() {
+                return ROOM_ID;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return imageUrl;
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.hilltop.service;
 
+import com.hilltop.cache.RoomTypeRegistry;
 import com.hilltop.domain.request.RoomTypeCreateRequestDto;
 import com.hilltop.exception.InvalidRoomTypeException;
 import com.hilltop.exception.RoomServiceException;
@@ -12,6 +13,7 @@ import org.mockito.Mock;
 import org.springframework.dao.DataAccessException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,6 +25,7 @@ class RoomTypeServiceTest {
     private static final String ROOM_TYPE_ID = "rtid-92be0c67-3810-47c2-9e28-615f81efad6a";
 
     private RoomTypeService roomTypeService;
+    private RoomTypeRegistry roomTypeRegistry;
 
     @Mock
     private RoomTypeRepository roomTypeRepository;
@@ -30,7 +33,8 @@ class RoomTypeServiceTest {
     @BeforeEach
     void setUp() {
         initMocks(this);
-        roomTypeService = new RoomTypeService(roomTypeRepository);
+        roomTypeRegistry = new RoomTypeRegistry();
+        roomTypeService = new RoomTypeService(roomTypeRepository, roomTypeRegistry);
     }
 
     @AfterEach
@@ -70,6 +74,47 @@ class RoomTypeServiceTest {
         assertEquals("Invalid room type id: " + ROOM_TYPE_ID, invalidRoomTypeException.getMessage());
     }
 
+    @Test
+    void Should_ReturnRoomTypeFromRegistry_When_RoomTypeIsSaved() {
+        var sampleRoomTypeCreateRequestDto = getSampleRoomTypeCreateRequestDto();
+        when(roomTypeRepository.save(any(RoomType.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        RoomType roomType = roomTypeService.saveRoomType(sampleRoomTypeCreateRequestDto);
+        assertEquals(roomType, roomTypeService.getRoomType(roomType.getId()));
+        verify(roomTypeRepository, never()).findById(any());
+        assertEquals(1, roomTypeRegistry.getHitCount());
+        assertEquals(0, roomTypeRegistry.getMissCount());
+    }
+
+    @Test
+    void Should_LoadRoomTypeIntoRegistry_When_RoomTypeIsMissing() {
+        RoomType sampleRoomType = new RoomType(ROOM_TYPE_ID, "ONLY_BED", 10);
+        when(roomTypeRepository.findById(ROOM_TYPE_ID)).thenReturn(Optional.of(sampleRoomType));
+        roomTypeService.getRoomType(ROOM_TYPE_ID);
+        roomTypeService.getRoomType(ROOM_TYPE_ID);
+        verify(roomTypeRepository, times(1)).findById(ROOM_TYPE_ID);
+        assertEquals(1, roomTypeRegistry.getHitCount());
+        assertEquals(1, roomTypeRegistry.getMissCount());
+    }
+
+    @Test
+    void Should_ReplaceRegistry_When_ReconcilingRoomTypes() {
+        RoomType sampleRoomType = getSampleRoomType();
+        roomTypeRegistry.put(new RoomType(getSampleRoomTypeCreateRequestDto()));
+        when(roomTypeRepository.findAll()).thenReturn(List.of(sampleRoomType));
+        roomTypeService.reconcileRoomTypes();
+        assertEquals(1, roomTypeRegistry.size());
+        assertEquals(sampleRoomType, roomTypeService.getRoomType(sampleRoomType.getId()));
+        verify(roomTypeRepository, never()).findById(any());
+    }
+
+    @Test
+    void Should_NotThrow_When_LoadingRoomTypesAtStartupIsFailed() {
+        when(roomTypeRepository.findAll()).thenThrow(new DataAccessException("ERROR") {
+        });
+        roomTypeService.loadRoomTypes();
+        assertEquals(0, roomTypeRegistry.size());
+    }
+
     private RoomTypeCreateRequestDto getSampleRoomTypeCreateRequestDto() {
         RoomTypeCreateRequestDto roomTypeCreateRequestDto = new RoomTypeCreateRequestDto();
         roomTypeCreateRequestDto.setRoomType("ONLY_BED");